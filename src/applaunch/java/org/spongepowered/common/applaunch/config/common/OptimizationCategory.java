@@ -50,6 +50,18 @@ public final class OptimizationCategory {
     @Comment("Uses theosib's redstone algorithms to completely overhaul the way redstone works.")
     public final EigenRedstoneCategory eigenRedstone = new EigenRedstoneCategory();
 
+    @Setting("container-slot-tracking")
+    @Comment("Tracks which container slots have changed to avoid comparing every slot of every open container each tick.")
+    public final ContainerSlotTrackingCategory containerSlotTracking = new ContainerSlotTrackingCategory();
+
+    @Setting("entity-spawn-batching")
+    @Comment("Spreads the tracking of large numbers of newly spawned mobs over several ticks.")
+    public final EntitySpawnBatchingCategory entitySpawnBatching = new EntitySpawnBatchingCategory();
+
+    @Setting("tick-governor")
+    @Comment("Gradually reduces non-critical work per world while the server can't keep up.")
+    public final TickGovernorCategory tickGovernor = new TickGovernorCategory();
+
     @Setting("faster-thread-checks")
     @Comment("If 'true', allows for Sponge to make better assumptions on single threaded\n"
                + "operations with relation to various checks for server threaded operations.\n"
@@ -0,0 +1,80 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@ConfigSerializable
+public final class TickGovernorCategory {
+
+    @Setting
+    @Comment("If 'true', the server reduces non-critical work in its most expensive worlds while \n"
+            + "the average tick time is above 'target-tick-time', and restores it once the average \n"
+            + "drops below 'recovery-tick-time'. Each step doubles the spawn tick rates and halves \n"
+            + "the tick rate of the 'throttled-block-entities' of a world, and while the server is \n"
+            + "behind, scheduled tasks only run until 'scheduler-task-budget' is spent each tick. \n"
+            + "Every adjustment is logged and shown by /sponge tps.")
+    public boolean enabled = false;
+
+    @Setting("target-tick-time")
+    @Comment("The average tick time in milliseconds above which worlds are throttled.")
+    public double targetTickTime = 50.0;
+
+    @Setting("recovery-tick-time")
+    @Comment("The average tick time in milliseconds below which throttled worlds are restored.")
+    public double recoveryTickTime = 40.0;
+
+    @Setting("evaluation-interval")
+    @Comment("The number of ticks between two adjustments.")
+    public int evaluationInterval = 100;
+
+    @Setting("max-level")
+    @Comment("The number of times a single world may be throttled.")
+    public int maxLevel = 3;
+
+    @Setting("scheduler-task-budget")
+    @Comment("The time in milliseconds the synchronous scheduler may spend per tick while the server is behind.")
+    public double schedulerTaskBudget = 10.0;
+
+    @Setting("throttled-block-entities")
+    @Comment("The block entity types whose ticking is slowed down in throttled worlds. Hoppers move \n"
+            + "items and furnaces smelt proportionally slower while throttled. They still tick every \n"
+            + "40 ticks of game time, when vanilla beacons and conduits apply their effects.")
+    public final List<String> throttledBlockEntities = new ArrayList<>(Arrays.asList(
+            "minecraft:hopper",
+            "minecraft:furnace",
+            "minecraft:blast_furnace",
+            "minecraft:smoker",
+            "minecraft:brewing_stand",
+            "minecraft:bell",
+            "minecraft:enchanting_table"
+    ));
+}
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.adventure;
 
+import com.google.gson.Gson;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.renderer.ComponentRenderer;
@@ -39,9 +40,10 @@
 import org.spongepowered.common.bridge.util.text.TextComponentBridge;
 import org.spongepowered.common.util.LocaleCache;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 
 public class AdventureTextComponent implements net.minecraft.network.chat.Component, TextComponentBridge {
@@ -49,10 +51,9 @@ public class AdventureTextComponent implements net.minecraft.network.chat.Compon
     private @Nullable Locale deepConvertedLocalized;
     private final net.kyori.adventure.text.Component wrapped;
     private final @Nullable ComponentRenderer<Locale> renderer;
-    @OnlyIn(Dist.CLIENT)
-    private @Nullable Locale lastLocale;
-    @OnlyIn(Dist.CLIENT)
-    private @Nullable AdventureTextComponent lastRendered;
+    // A broadcast packet is encoded once per recipient, so keep every locale it was rendered for
+    private @Nullable Map<Locale, AdventureTextComponent> renderedByLocale;
+    private volatile @Nullable CachedJson json;
 
     public AdventureTextComponent(final net.kyori.adventure.text.Component wrapped, final @Nullable ComponentRenderer<Locale> renderer) {
         this.wrapped = wrapped;
@@ -68,11 +69,29 @@ public net.kyori.adventure.text.Component wrapped() {
     }
 
     public synchronized AdventureTextComponent rendered(final Locale locale) {
-        if (Objects.equals(locale, this.lastLocale)) {
-            return this.lastRendered;
+        if (this.renderer == null) {
+            return this;
+        }
+        if (this.renderedByLocale == null) {
+            this.renderedByLocale = new HashMap<>(4);
         }
-        this.lastLocale = locale;
-        return this.lastRendered = this.renderer == null ? this : new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        return this.renderedByLocale.computeIfAbsent(locale, key -> new AdventureTextComponent(this.renderer.render(this.wrapped, key), null));
+    }
+
+    /**
+     * Gets the JSON of the wrapped component, serialized only the first time
+     * it is requested with the given gson instance.
+     *
+     * @param gson The gson instance to serialize with
+     * @return The JSON
+     */
+    public String toJson(final Gson gson) {
+        @Nullable CachedJson json = this.json;
+        if (json == null || json.gson != gson) {
+            // Other gson instances may serialize differently, so only the last one is remembered
+            json = this.json = new CachedJson(gson, gson.toJson(this.wrapped));
+        }
+        return json.json;
     }
 
     net.minecraft.network.chat.Component deepConverted() {
@@ -164,4 +183,15 @@ public <T> Optional<T> visit(final ContentConsumer<T> visitor) {
     public @Nullable Component bridge$adventureComponentIfPresent() {
         return this.bridge$asAdventureComponent();
     }
+
+    private static final class CachedJson {
+
+        final Gson gson;
+        final String json;
+
+        CachedJson(final Gson gson, final String json) {
+            this.gson = gson;
+            this.json = json;
+        }
+    }
 }
@@ -70,6 +70,7 @@
 import org.spongepowered.common.bridge.world.BossInfoBridge;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -82,6 +83,8 @@
 
 public final class SpongeAdventure {
     public static final AttributeKey<Locale> CHANNEL_LOCALE = AttributeKey.newInstance("sponge:locale");
+    // Only weakly held, the packets sent to the members keep it alive while a forwarding audience is sending
+    private static final ThreadLocal<@Nullable WeakReference<AdventureTextComponent>> LAST_SHARED = new ThreadLocal<>();
     public static final SpongeCallback CALLBACK_COMMAND = new SpongeCallback();
     public static final GsonComponentSerializer GSON = GsonComponentSerializer.builder()
         .legacyHoverEventSerializer(NbtLegacyHoverEventSerializer.INSTANCE)
@@ -185,6 +188,28 @@ public static net.minecraft.network.chat.Component asVanilla(final Component com
         return new AdventureTextComponent(component, GlobalTranslator.renderer());
     }
 
+    /**
+     * Converts a component the same way as {@link #asVanilla(Component)}, but
+     * returns the previous result if the same component was last converted on
+     * this thread. A forwarding audience hands the same component to each of
+     * its members in turn, and sharing the result lets every connection reuse
+     * the rendering and JSON of the recipients with the same locale. The
+     * previous result is not kept alive once no packet refers to it anymore.
+     *
+     * @param component The component
+     * @return The vanilla component
+     */
+    public static net.minecraft.network.chat.Component asVanillaShared(final Component component) {
+        final @Nullable WeakReference<AdventureTextComponent> lastRef = SpongeAdventure.LAST_SHARED.get();
+        final @Nullable AdventureTextComponent last = lastRef == null ? null : lastRef.get();
+        if (last != null && last.wrapped() == component && last.renderer() == GlobalTranslator.renderer()) {
+            return last;
+        }
+        final AdventureTextComponent converted = new AdventureTextComponent(component, GlobalTranslator.renderer());
+        SpongeAdventure.LAST_SHARED.set(new WeakReference<>(converted));
+        return converted;
+    }
+
     public static Component asAdventure(final net.minecraft.network.chat.Component component) {
         return ((TextComponentBridge) component).bridge$asAdventureComponent();
     }
@@ -71,7 +71,8 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
 
     private final BlockState blockState;
     private final ResourceKey worldKey;
-    private final Vector3i pos;
+    // Lazily created from the block pos, most snapshots are only ever processed internally
+    @Nullable private Vector3i pos;
     @Nullable final CompoundTag compound;
     // Internal use only
     private final BlockPos blockPos;
@@ -82,8 +83,12 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
     SpongeBlockSnapshot(final SpongeBlockSnapshotBuilder builder) {
         this.blockState = Objects.requireNonNull(builder.blockState);
         this.worldKey = Objects.requireNonNull(builder.worldKey);
-        this.pos = Objects.requireNonNull(builder.coordinates);
-        this.blockPos = VecHelper.toBlockPos(this.pos);
+        if (builder.blockPos != null) {
+            this.blockPos = builder.blockPos;
+        } else {
+            this.pos = Objects.requireNonNull(builder.coordinates);
+            this.blockPos = VecHelper.toBlockPos(this.pos);
+        }
         this.compound = builder.compound;
         this.changeFlag = builder.flag;
         this.world = builder.worldRef;
@@ -112,13 +117,17 @@ public ResourceKey getWorld() {
 
     @Override
     public Vector3i getPosition() {
-        return this.pos;
+        @Nullable Vector3i pos = this.pos;
+        if (pos == null) {
+            pos = this.pos = VecHelper.toVector3i(this.blockPos);
+        }
+        return pos;
     }
 
     @Override
     public Optional<ServerLocation> getLocation() {
         return this.getServerWorld()
-                .map(world -> ServerLocation.of((org.spongepowered.api.world.server.ServerWorld) world, this.pos));
+                .map(world -> ServerLocation.of((org.spongepowered.api.world.server.ServerWorld) world, this.getPosition()));
     }
 
     @Override
@@ -140,7 +149,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
         // this way we guarantee an exit.
         try (final PhaseContext<?> context = BlockPhase.State.RESTORING_BLOCKS.createPhaseContext(PhaseTracker.SERVER)) {
             context.buildAndSwitch();
-            final BlockPos pos = VecHelper.toBlockPos(this.pos);
+            final BlockPos pos = this.blockPos;
             if (!net.minecraft.world.level.Level.isInWorldBounds(pos)) { // Invalid position. Inline this check
                 return false;
             }
@@ -188,7 +197,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                         }
                         printer.add()
                             .add("Desired World: " + this.worldKey)
-                            .add("Position: " + this.pos)
+                            .add("Position: " + this.blockPos)
                             .add("Desired BlockState: " + this.blockState);
                         printer.add();
                         printer.log(SpongeCommon.getLogger(), Level.ERROR);
@@ -266,7 +275,7 @@ public Optional<CompoundTag> getCompound() {
     public SpongeBlockSnapshotBuilder createBuilder() {
         final SpongeBlockSnapshotBuilder builder = SpongeBlockSnapshotBuilder.pooled();
         builder.blockState(this.blockState)
-               .position(this.pos);
+               .position(this.blockPos);
         if (this.world != null && this.world.get() != null) {
             builder.world(this.world.get());
         } else {
@@ -329,7 +338,7 @@ public boolean equals(final Object o) {
         final SpongeBlockSnapshot that = (SpongeBlockSnapshot) o;
         return this.changeFlag == that.changeFlag &&
                Objects.equals(this.worldKey, that.worldKey) &&
-               Objects.equals(this.pos, that.pos) &&
+               Objects.equals(this.blockPos, that.blockPos) &&
                Objects.equals(this.compound, that.compound);
     }
 
@@ -338,7 +347,7 @@ public int hashCode() {
         return Objects
             .hash(this.blockState,
                 this.worldKey,
-                this.pos,
+                this.blockPos,
                 this.changeFlag,
                 this.compound);
     }
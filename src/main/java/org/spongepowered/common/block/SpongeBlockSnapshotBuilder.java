@@ -39,9 +39,11 @@
 import org.spongepowered.api.world.BlockChangeFlags;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.storage.ServerWorldProperties;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DataUtil;
+import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -54,6 +56,7 @@
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 import javax.annotation.Nullable;
+import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.Blocks;
@@ -79,7 +82,8 @@ public static SpongeBlockSnapshotBuilder pooled() {
     ResourceKey worldKey;
     @Nullable UUID creatorUniqueId;
     @Nullable UUID notifierUniqueId;
-    Vector3i coordinates;
+    @Nullable Vector3i coordinates;
+    @Nullable BlockPos blockPos;
     @Nullable List<DataManipulator.Immutable> manipulators;
     @Nullable CompoundTag compound;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
@@ -106,7 +110,7 @@ public SpongeBlockSnapshotBuilder world(final ResourceKey key) {
     
     public SpongeBlockSnapshotBuilder world(final ServerLevel world) {
         this.worldKey = ((org.spongepowered.api.world.server.ServerWorld) Objects.requireNonNull(world)).getKey();
-        this.worldRef = new WeakReference<>(world);
+        this.worldRef = ((ServerWorldBridge) world).bridge$weakReference();
         return this;
     }
 
@@ -127,12 +131,31 @@ public SpongeBlockSnapshotBuilder blockState(final net.minecraft.world.level.blo
     @NonNull
     public SpongeBlockSnapshotBuilder position(@NonNull final Vector3i position) {
         this.coordinates = Objects.requireNonNull(position);
+        this.blockPos = null;
+        this.updateCompoundPosition(position.getX(), position.getY(), position.getZ());
+        return this;
+    }
+
+    /**
+     * Sets the position from a vanilla position, the {@link Vector3i} form
+     * of it will only be created if it's requested from the snapshot.
+     *
+     * @param position The position
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder position(final BlockPos position) {
+        this.blockPos = Objects.requireNonNull(position).immutable();
+        this.coordinates = null;
+        this.updateCompoundPosition(position.getX(), position.getY(), position.getZ());
+        return this;
+    }
+
+    private void updateCompoundPosition(final int x, final int y, final int z) {
         if (this.compound != null) {
-            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X, position.getX());
-            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y, position.getY());
-            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z, position.getZ());
+            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X, x);
+            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y, y);
+            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z, z);
         }
-        return this;
     }
 
     @Override
@@ -190,6 +213,7 @@ public SpongeBlockSnapshotBuilder from(final BlockSnapshot holder) {
             this.notifierUniqueId = holder.getNotifier().get();
         }
         this.coordinates = holder.getPosition();
+        this.blockPos = null;
         return this;
     }
 
@@ -200,7 +224,8 @@ public SpongeBlockSnapshotBuilder from(final SpongeBlockSnapshot snapshot) {
         this.worldKey = snapshot.getWorld();
         this.worldRef = snapshot.world;
         this.compound = snapshot.compound;
-        this.coordinates = snapshot.getPosition();
+        this.blockPos = snapshot.getBlockPos();
+        this.coordinates = null;
         this.flag = snapshot.getChangeFlag();
         return this;
     }
@@ -219,6 +244,9 @@ public UUID getCreatorUniqueId() {
     }
 
     public Vector3i getCoordinates() {
+        if (this.coordinates == null && this.blockPos != null) {
+            return VecHelper.toVector3i(this.blockPos);
+        }
         return this.coordinates;
     }
 
@@ -244,6 +272,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.creatorUniqueId = null;
         this.notifierUniqueId = null;
         this.coordinates = null;
+        this.blockPos = null;
         this.manipulators = null;
         this.compound = null;
         this.flag = null;
@@ -313,6 +342,7 @@ public SpongeBlockSnapshotBuilder tileEntity(final BlockEntity added) {
         this.compound = null;
         final CompoundTag tag = new CompoundTag();
         added.save(tag);
+        // Freshly saved, so there's no need to copy it once more
         this.compound = tag;
         return this;
     }
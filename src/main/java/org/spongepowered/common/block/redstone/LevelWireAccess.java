@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block.redstone;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+
+import java.util.function.LongConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link WirePowerPropagator.WireAccess} reading redstone wire from a
+ * {@link Level}, connecting wires the same way vanilla looks for neighbouring
+ * wire when computing the power of a wire.
+ */
+public final class LevelWireAccess implements WirePowerPropagator.WireAccess {
+
+    private final Level level;
+    private final Block wire;
+    private final ToIntFunction<BlockPos> externalPower;
+    // Separate from the cursors below, as the consumer of connected wires reads their power
+    private final BlockPos.MutableBlockPos lookup = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+
+    /**
+     * Creates a new access.
+     *
+     * @param level The level the wire is in
+     * @param wire The wire block
+     * @param externalPower The signal a wire receives from anything but other wire
+     */
+    public LevelWireAccess(final Level level, final Block wire, final ToIntFunction<BlockPos> externalPower) {
+        this.level = level;
+        this.wire = wire;
+        this.externalPower = externalPower;
+    }
+
+    @Override
+    public int getPower(final long pos) {
+        final BlockState state = this.level.getBlockState(this.lookup.set(pos));
+        return state.getBlock() == this.wire ? state.getValue(BlockStateProperties.POWER) : 0;
+    }
+
+    @Override
+    public int getExternalPower(final long pos) {
+        return this.externalPower.applyAsInt(BlockPos.of(pos));
+    }
+
+    @Override
+    public void forEachConnectedWire(final long pos, final LongConsumer consumer) {
+        final BlockPos origin = BlockPos.of(pos);
+        final boolean coveredAbove = this.isConductor(this.cursor.setWithOffset(origin, Direction.UP));
+        for (final Direction direction : Direction.Plane.HORIZONTAL) {
+            final BlockPos.MutableBlockPos side = this.cursor.setWithOffset(origin, direction);
+            if (this.isWire(side)) {
+                consumer.accept(side.asLong());
+                continue;
+            }
+            if (this.isConductor(side)) {
+                if (!coveredAbove && this.isWire(this.neighbor.setWithOffset(side, Direction.UP))) {
+                    consumer.accept(this.neighbor.asLong());
+                }
+            } else if (this.isWire(this.neighbor.setWithOffset(side, Direction.DOWN))) {
+                consumer.accept(this.neighbor.asLong());
+            }
+        }
+    }
+
+    private boolean isWire(final BlockPos pos) {
+        return this.level.getBlockState(pos).getBlock() == this.wire;
+    }
+
+    private boolean isConductor(final BlockPos pos) {
+        return this.level.getBlockState(pos).isRedstoneConductor(this.level, pos);
+    }
+
+}
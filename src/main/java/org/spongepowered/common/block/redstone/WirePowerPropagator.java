@@ -0,0 +1,212 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block.redstone;
+
+import it.unimi.dsi.fastutil.longs.Long2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Computes the new power levels of a redstone wire network after the power
+ * of a single wire changed, without touching the world in between.
+ *
+ * <p>Vanilla updates a wire, notifies its neighbours, and lets every
+ * neighbouring wire recursively do the same. When a line of wire turns off,
+ * the wires keep re-powering each other from their stale neighbours and step
+ * down one level at a time, which causes a number of updates quadratic in
+ * the length of the line. Here, the wires that could have been powered
+ * through the changed wire are first collected, their power is recomputed
+ * from the sources around them, and the result is spread breadth first from
+ * the strongest wires down. Every wire is written at most once, and the
+ * neighbour updates can be sent after the network has settled.</p>
+ */
+public final class WirePowerPropagator {
+
+    private static final int MAX_POWER = 15;
+
+    /**
+     * The view of the world the propagation works on. Positions are opaque
+     * packed longs.
+     */
+    public interface WireAccess {
+
+        /**
+         * Gets the current power of the wire at the given position.
+         *
+         * @param pos The position of a wire
+         * @return The power, from 0 to 15
+         */
+        int getPower(long pos);
+
+        /**
+         * Gets the strongest signal the wire at the given position receives
+         * from anything but other wires.
+         *
+         * @param pos The position of a wire
+         * @return The signal, from 0 to 15
+         */
+        int getExternalPower(long pos);
+
+        /**
+         * Visits every wire the wire at the given position exchanges power
+         * with.
+         *
+         * @param pos The position of a wire
+         * @param consumer The consumer of the connected wire positions
+         */
+        void forEachConnectedWire(long pos, LongConsumer consumer);
+    }
+
+    /**
+     * Propagates a change in power of the given wire through its network.
+     *
+     * @param access The world access
+     * @param origin The wire whose power changed
+     * @param originPower The power the wire should have now, as computed from its surroundings
+     * @return The wires whose power changed and their new power, in the order they were reached
+     */
+    public static Long2IntMap propagate(final WireAccess access, final long origin, final int originPower) {
+        return new WirePowerPropagator(access).run(origin, originPower);
+    }
+
+    private final WireAccess access;
+    // The power of every wire reached before the propagation, in the order they were reached
+    private final Long2IntLinkedOpenHashMap oldPower = new Long2IntLinkedOpenHashMap();
+    private final Long2IntOpenHashMap newPower = new Long2IntOpenHashMap();
+    private final LongArrayFIFOQueue[] queues = new LongArrayFIFOQueue[WirePowerPropagator.MAX_POWER + 1];
+
+    private WirePowerPropagator(final WireAccess access) {
+        this.access = access;
+    }
+
+    private Long2IntMap run(final long origin, final int originPower) {
+        final int previous = this.access.getPower(origin);
+        this.oldPower.put(origin, previous);
+        if (originPower > previous) {
+            // Nothing can lose power, so the change only has to spread outwards.
+            this.setPower(origin, originPower);
+        } else {
+            this.collectDependents(origin);
+            for (final Long2IntMap.Entry entry : this.oldPower.long2IntEntrySet()) {
+                this.setPower(entry.getLongKey(), this.getSourcePower(entry.getLongKey()));
+            }
+        }
+        this.spread();
+
+        final Long2IntLinkedOpenHashMap changes = new Long2IntLinkedOpenHashMap();
+        for (final Long2IntMap.Entry entry : this.oldPower.long2IntEntrySet()) {
+            final int power = this.newPower.get(entry.getLongKey());
+            if (power != entry.getIntValue()) {
+                changes.put(entry.getLongKey(), power);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Collects every wire that may have received its power through the origin.
+     * Such a wire is always weaker than the wire it is connected to on the way
+     * to the origin, so only strictly descending paths have to be followed.
+     */
+    private void collectDependents(final long origin) {
+        final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        queue.enqueue(origin);
+        while (!queue.isEmpty()) {
+            final long pos = queue.dequeueLong();
+            final int power = this.oldPower.get(pos);
+            this.access.forEachConnectedWire(pos, neighbor -> {
+                if (this.oldPower.containsKey(neighbor)) {
+                    return;
+                }
+                final int neighborPower = this.access.getPower(neighbor);
+                if (neighborPower > 0 && neighborPower < power) {
+                    this.oldPower.put(neighbor, neighborPower);
+                    queue.enqueue(neighbor);
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets the power a collected wire gets from its external sources and the
+     * wires around the collected ones, which keep their power.
+     */
+    private int getSourcePower(final long pos) {
+        final int[] power = {this.access.getExternalPower(pos)};
+        if (power[0] < WirePowerPropagator.MAX_POWER) {
+            this.access.forEachConnectedWire(pos, neighbor -> {
+                if (!this.oldPower.containsKey(neighbor)) {
+                    power[0] = Math.max(power[0], this.access.getPower(neighbor) - 1);
+                }
+            });
+        }
+        return power[0];
+    }
+
+    private void setPower(final long pos, final int power) {
+        this.newPower.put(pos, power);
+        if (power > 0) {
+            LongArrayFIFOQueue queue = this.queues[power];
+            if (queue == null) {
+                queue = this.queues[power] = new LongArrayFIFOQueue();
+            }
+            queue.enqueue(pos);
+        }
+    }
+
+    /**
+     * Spreads power from the strongest wires down, so every wire is final by
+     * the time it is dequeued.
+     */
+    private void spread() {
+        for (int power = WirePowerPropagator.MAX_POWER; power > 0; power--) {
+            final LongArrayFIFOQueue queue = this.queues[power];
+            if (queue == null) {
+                continue;
+            }
+            final int offered = power - 1;
+            while (!queue.isEmpty()) {
+                final long pos = queue.dequeueLong();
+                if (this.newPower.get(pos) != power) {
+                    // Raised again after it was queued.
+                    continue;
+                }
+                this.access.forEachConnectedWire(pos, neighbor -> {
+                    final int current = this.newPower.containsKey(neighbor) ? this.newPower.get(neighbor) : this.access.getPower(neighbor);
+                    if (current < offered) {
+                        if (!this.oldPower.containsKey(neighbor)) {
+                            this.oldPower.put(neighbor, this.access.getPower(neighbor));
+                        }
+                        this.setPower(neighbor, offered);
+                    }
+                });
+            }
+        }
+    }
+
+}
@@ -55,5 +55,9 @@ public interface TrackedContainerBridge {
 
     void bridge$detectAndSendChanges(boolean captureOnly);
 
+    void bridge$markSlotDirty(int index);
+
+    void bridge$markContainerDirty(net.minecraft.world.Container container);
+
     void bridge$trackViewable(Object inventory);
 }
@@ -28,6 +28,7 @@
 import net.minecraft.network.protocol.status.ServerStatus;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.network.status.Favicon;
+import org.spongepowered.common.network.status.SpongeStatusResponse;
 
 public interface ServerStatusResponseBridge {
 
@@ -42,4 +43,24 @@ public interface ServerStatusResponseBridge {
     ServerStatus.Players bridge$getPlayerBackup();
 
     void bridge$setPlayerBackup(ServerStatus.Players players);
+
+    /**
+     * Gets the modification count of this response, which is incremented
+     * every time its description, favicon, players or version changes.
+     *
+     * @return The modification count
+     */
+    int bridge$getModificationCount();
+
+    void bridge$markModified();
+
+    /**
+     * Gets the cached encoded form of this response, which is only valid for
+     * the modification count it was encoded at.
+     *
+     * @return The encoded response, if any
+     */
+    @Nullable SpongeStatusResponse.Encoded bridge$getEncoded();
+
+    void bridge$setEncoded(SpongeStatusResponse.Encoded encoded);
 }
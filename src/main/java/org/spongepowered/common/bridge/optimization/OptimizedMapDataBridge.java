@@ -35,7 +35,13 @@
  */
 public interface OptimizedMapDataBridge {
 
-    void mapOptimizationBridge$tickMap();
+    /**
+     * Refreshes the decorations of the players holding this map and drops
+     * the players which stopped holding it since the last call.
+     *
+     * @return Whether any player is still holding this map
+     */
+    boolean mapOptimizationBridge$tickMap();
 
     void mapOptimizationBridge$updatePlayer(Player player, ItemStack mapStack);
 
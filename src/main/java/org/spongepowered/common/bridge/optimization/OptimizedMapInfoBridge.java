@@ -29,4 +29,27 @@ public interface OptimizedMapInfoBridge {
     void mapOptimizationBridge$setValid(boolean valid);
 
     boolean mapOptimizationBridge$isValid();
+
+    void mapOptimizationBridge$setCarried(boolean carried);
+
+    boolean mapOptimizationBridge$isCarried();
+
+    void mapOptimizationBridge$setLastFramedTick(int tick);
+
+    /**
+     * Gets the server tick on which an item frame showing the map last
+     * updated this player.
+     *
+     * @return The tick, or -1 if no item frame updated this player yet
+     */
+    int mapOptimizationBridge$getLastFramedTick();
+
+    /**
+     * Claims the update of this player from an item frame showing the map,
+     * so several frames showing the same map only send it once.
+     *
+     * @param window The current update window of the item frames
+     * @return Whether no other frame claimed the update in this window
+     */
+    boolean mapOptimizationBridge$claimFrameUpdate(long window);
 }
@@ -28,5 +28,21 @@
 
 public interface IPBanEntryBridge {
 
+    /**
+     * Gets the key of this entry in the ban list, the banned address or
+     * CIDR range as it was entered.
+     *
+     * @return The key
+     */
+    String bridge$getKey();
+
     InetAddress bridge$getAddress();
+
+    /**
+     * Gets the number of leading bits of the address which are banned. This
+     * is shorter than the address for bans of a CIDR range.
+     *
+     * @return The prefix length
+     */
+    int bridge$getPrefixLength();
 }
@@ -25,6 +25,8 @@
 package org.spongepowered.common.bridge.world;
 
 import net.minecraft.server.bossevents.CustomBossEvents;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.level.progress.ChunkProgressListener;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.storage.LevelStorageSource;
@@ -32,9 +34,13 @@
 import org.spongepowered.api.registry.RegistryHolder;
 import org.spongepowered.api.world.explosion.Explosion;
 import org.spongepowered.api.world.weather.WeatherType;
+import org.spongepowered.common.effect.particle.ParticleViewerIndex;
 import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
+import org.spongepowered.common.world.server.SpawnBudget;
 import org.spongepowered.math.vector.Vector3d;
 
+import java.lang.ref.WeakReference;
+
 public interface ServerWorldBridge {
 
     LevelStorageSource.LevelStorageAccess bridge$getLevelSave();
@@ -62,4 +68,17 @@ public interface ServerWorldBridge {
     RegistryHolder bridge$registries();
 
     BlockSnapshot bridge$createSnapshot(int x, int y, int z);
+
+    /**
+     * Gets a weak reference to this world that is shared between everything
+     * that needs to hold onto the world without keeping it loaded, such as
+     * block snapshots, instead of creating a new reference for each of them.
+     *
+     * @return The weak reference to this world
+     */
+    WeakReference<ServerLevel> bridge$weakReference();
+
+    SpawnBudget bridge$spawnBudget();
+
+    ParticleViewerIndex<ServerPlayer> bridge$particleViewerIndex();
 }
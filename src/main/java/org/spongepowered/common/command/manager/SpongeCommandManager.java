@@ -120,6 +120,7 @@ public final class SpongeCommandManager implements CommandManager.Mutable {
     private final LinkedHashMap<SpongeCommandMapping, RootCommandTreeNode> mappingToSuggestionNodes = new LinkedHashMap<>();
     private final Map<Class<?>, CommandRegistrar<?>> knownRegistrars = new ConcurrentHashMap<>();
     private BrigadierCommandRegistrar brigadierRegistrar;
+    private int commandTreeVersion;
 
     public static SpongeCommandManager get(final MinecraftServer server) {
         return ((CommandsBridge) server.getCommands()).bridge$commandManager();
@@ -254,9 +255,20 @@ public CommandMapping registerAliasWithNamespacing(
         if (parameterTree instanceof RootCommandTreeNode) {
             this.mappingToSuggestionNodes.put(mapping, (RootCommandTreeNode) parameterTree);
         }
+        this.commandTreeVersion++;
         return mapping;
     }
 
+    /**
+     * Gets a counter that changes every time a command is registered, used to
+     * invalidate anything derived from the command tree.
+     *
+     * @return The current command tree version
+     */
+    public int getCommandTreeVersion() {
+        return this.commandTreeVersion;
+    }
+
     @Override
     @NonNull
     public Collection<PluginContainer> getPlugins() {
@@ -34,19 +34,25 @@
 import org.spongepowered.api.command.parameter.CommandContext;
 import org.spongepowered.api.command.parameter.Parameter;
 import org.spongepowered.api.registry.Registry;
-import org.spongepowered.api.registry.RegistryEntry;
+import org.spongepowered.common.bridge.util.registry.RegistryBridge;
 import org.spongepowered.common.command.brigadier.argument.AbstractArgumentParser;
 import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.util.PrefixIndex;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public final class SpongeCatalogedElementValueParameter<T> extends AbstractArgumentParser<T> {
 
+    private static final int MAX_SUGGESTIONS = 100;
+    private static final Map<Registry<?>, KeyIndex> KEY_INDEXES = new WeakHashMap<>();
+
     private final List<String> prefixes;
     private final Function<CommandContext, @Nullable ? extends Registry<? extends T>> registryFunction;
 
@@ -101,21 +107,50 @@ public List<String> complete(@NonNull final CommandContext context, @NonNull fin
         if (registry == null) {
             return Collections.emptyList();
         }
+        final PrefixIndex index = SpongeCatalogedElementValueParameter.getKeyIndex(registry);
         final String lowerCase = currentInput.toLowerCase();
-        return registry.streamEntries()
-                .map(RegistryEntry::key)
-                .map(x -> {
-                    if (x.asString().startsWith(lowerCase)) {
-                        return x.asString();
-                    } else if (this.prefixes.contains(x.getNamespace()) && x.getValue().startsWith(lowerCase)) {
-                        return x.getValue();
-                    }
-                    return null;
-                }).filter(Objects::nonNull).collect(Collectors.toList());
+        final List<String> results = new ArrayList<>(index.complete(lowerCase, SpongeCatalogedElementValueParameter.MAX_SUGGESTIONS));
+        for (final String prefix : this.prefixes) {
+            final String namespace = prefix + ":";
+            for (final String key : index.complete(namespace + lowerCase, SpongeCatalogedElementValueParameter.MAX_SUGGESTIONS - results.size())) {
+                // Keys that matched in full have already been added above.
+                if (!key.startsWith(lowerCase)) {
+                    results.add(key.substring(namespace.length()));
+                }
+            }
+        }
+        return results;
+    }
+
+    private static PrefixIndex getKeyIndex(final Registry<?> registry) {
+        // Registries only ever grow, so the number of entries tells us whether the index is out of date.
+        final int size = ((RegistryBridge<?>) registry).bridge$getEntries().size();
+        synchronized (SpongeCatalogedElementValueParameter.KEY_INDEXES) {
+            final KeyIndex cached = SpongeCatalogedElementValueParameter.KEY_INDEXES.get(registry);
+            if (cached != null && cached.size == size) {
+                return cached.index;
+            }
+            final PrefixIndex index = new PrefixIndex();
+            registry.streamEntries().forEach(entry -> index.add(entry.key().asString()));
+            SpongeCatalogedElementValueParameter.KEY_INDEXES.put(registry, new KeyIndex(index, size));
+            return index;
+        }
     }
 
     @Override
     public List<ArgumentType<?>> getClientCompletionArgumentType() {
         return Collections.singletonList(Constants.Command.RESOURCE_LOCATION_TYPE);
     }
+
+    private static final class KeyIndex {
+
+        final PrefixIndex index;
+        final int size;
+
+        KeyIndex(final PrefixIndex index, final int size) {
+            this.index = index;
+            this.size = size;
+        }
+    }
+
 }
@@ -39,20 +39,21 @@
 import org.spongepowered.api.command.parameter.Parameter;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
-import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.user.UserManager;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
 import org.spongepowered.common.command.brigadier.context.SpongeCommandContextBuilder;
+import org.spongepowered.common.user.SpongeUserManager;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 public final class SpongeUserValueParameter extends ResourceKeyedArgumentValueParser<User> {
 
+    private static final int MAX_SUGGESTIONS = 100;
+
     private final EntityArgument selectorArgumentType = EntityArgument.player();
 
     public SpongeUserValueParameter(final ResourceKey key) {
@@ -69,8 +70,7 @@ public CompletableFuture<Suggestions> listSuggestions(
     @Override
     @NonNull
     public List<String> complete(@NonNull final CommandContext context, @NonNull final String currentInput) {
-        return Sponge.getServer().getUserManager().streamOfMatches(currentInput).filter(GameProfile::hasName)
-                .map(x -> x.getName().orElse("")).collect(Collectors.toList());
+        return ((SpongeUserManager) Sponge.getServer().getUserManager()).completeNames(currentInput, SpongeUserValueParameter.MAX_SUGGESTIONS);
     }
 
     @Override
@@ -25,6 +25,7 @@
 package org.spongepowered.common.command.sponge;
 
 import co.aikar.timings.Timings;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
@@ -45,11 +46,17 @@
 import org.spongepowered.api.event.lifecycle.RefreshGameEvent;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimingsFactory;
+import org.spongepowered.common.world.server.ChunkTickProfiler;
+import org.spongepowered.common.world.server.SpawnBudget;
+import org.spongepowered.common.world.server.TickGovernor;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginContributor;
 import org.spongepowered.plugin.metadata.PluginMetadata;
@@ -94,6 +101,9 @@ public Command.Parameterized createSpongeCommand() {
         // /sponge chunks
         final Command.Parameterized chunksCommand = this.chunksSubcommand();
 
+        // /sponge chunkprofile
+        final Command.Parameterized chunkProfileCommand = this.chunkProfileSubcommand();
+
         // /sponge heap
         final Command.Parameterized heapCommand = Command.builder()
                 .setPermission("sponge.command.heap")
@@ -161,6 +171,7 @@ public Command.Parameterized createSpongeCommand() {
                 .setExecutor(this::rootCommand)
                 .child(auditCommand, "audit")
                 .child(chunksCommand, "chunks")
+                .child(chunkProfileCommand, "chunkprofile")
                 .child(heapCommand, "heap")
                 .child(pluginsCommand, "plugins")
                 .child(timingsCommand, "timings")
@@ -263,6 +274,79 @@ private Command.Parameterized chunksSubcommand() {
                 .build();
     }
 
+    private Command.Parameterized chunkProfileSubcommand() {
+        final Parameter.Value<Integer> intervalParameter = Parameter.integerNumber().setKey("interval").optional().build();
+        final Command.Parameterized startCommand = Command.builder()
+                .setShortDescription(Component.text("Starts sampling entity and block entity ticks every given amount of ticks"))
+                .parameter(intervalParameter)
+                .setExecutor(context -> {
+                    final int interval = context.getOne(intervalParameter).orElse(1);
+                    if (interval < 1) {
+                        context.sendMessage(Identity.nil(), Component.text("The sample interval must be at least 1 tick", NamedTextColor.RED));
+                        return CommandResult.empty();
+                    }
+                    ChunkTickProfiler.INSTANCE.start(interval);
+                    context.sendMessage(Identity.nil(), Component.text("Chunk profiler started, sampling every " + interval + " tick(s)",
+                            NamedTextColor.GREEN));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized stopCommand = Command.builder()
+                .setShortDescription(Component.text("Stops sampling, keeping the collected data for reports"))
+                .setExecutor(context -> {
+                    ChunkTickProfiler.INSTANCE.stop();
+                    context.sendMessage(Identity.nil(), Component.text("Chunk profiler stopped", NamedTextColor.GREEN));
+                    return CommandResult.success();
+                })
+                .build();
+        final Parameter.Value<Integer> countParameter = Parameter.integerNumber().setKey("count").optional().build();
+        return Command.builder()
+                .setPermission("sponge.command.chunkprofile")
+                .setShortDescription(Component.text("Reports the chunks with the most expensive entity and block entity ticks"))
+                .parameter(countParameter)
+                .setExecutor(context -> this.chunkProfileReport(context, Math.max(1, context.getOne(countParameter).orElse(10))))
+                .child(startCommand, "start")
+                .child(stopCommand, "stop")
+                .build();
+    }
+
+    private CommandResult chunkProfileReport(final CommandContext context, final int count) {
+        final ChunkTickProfiler profiler = ChunkTickProfiler.INSTANCE;
+        final int sampledTicks = profiler.getSampledTicks();
+        if (sampledTicks == 0) {
+            context.sendMessage(Identity.nil(), Component.text("No ticks have been sampled, start the profiler with /sponge chunkprofile start",
+                    NamedTextColor.RED));
+            return CommandResult.empty();
+        }
+        final List<Component> lines = new ArrayList<>();
+        lines.add(Component.text("Sampled " + sampledTicks + " tick(s), times are the average per sampled tick"
+                + (profiler.isRunning() ? "" : " (stopped)"), NamedTextColor.GRAY));
+        for (final ChunkTickProfiler.ChunkCost cost : profiler.top(count)) {
+            final TextComponent.Builder line = Component.text()
+                    .append(Component.text(cost.getWorld().location() + " ", NamedTextColor.DARK_GREEN))
+                    .append(Component.text("[" + cost.getChunkX() + ", " + cost.getChunkZ() + "] "))
+                    .append(Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(cost.getNanos() / 1.0E6D / sampledTicks) + "ms",
+                            NamedTextColor.RED));
+            for (final Object2LongMap.Entry<String> type : cost.topTypes(3)) {
+                line.append(Component.newline())
+                        .append(SpongeCommand.INDENT_COMPONENT)
+                        .append(Component.text(type.getKey() + ": ", NamedTextColor.GRAY))
+                        .append(Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(type.getLongValue() / 1.0E6D / sampledTicks) + "ms",
+                                NamedTextColor.LIGHT_PURPLE));
+            }
+            lines.add(line.build());
+        }
+
+        SpongeCommon.getGame().getServiceProvider()
+                .paginationService()
+                .builder()
+                .contents(lines)
+                .title(Component.text("Chunk Tick Profile", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.getCause().getAudience());
+        return CommandResult.success();
+    }
+
     @NonNull
     private CommandResult heapSubcommandExecutor(final CommandContext context) {
         final File file = new File(new File(new File("."), "dumps"),
@@ -355,6 +439,16 @@ private CommandResult pluginsRefreshSubcommandExecutor(final CommandContext cont
                             return CommandResult.success();
                         })
                         .build(), "report", "paste")
+                .child(Command.builder()
+                        .setExecutor(context -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                context.sendMessage(Identity.nil(), Component.text("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            SpongeTimingsFactory.generateLocalReport(context.getCause().getAudience());
+                            return CommandResult.success();
+                        })
+                        .build(), "export")
                 .child(Command.builder()
                         .setExecutor(context -> {
                             Timings.setTimingsEnabled(true);
@@ -418,6 +512,16 @@ private CommandResult tpsExecutor(final CommandContext context) {
 
         tps.add(this.appendTickTime(SpongeCommon.getServer().tickTimes, Component.text().content("Overall TPS: ")).build());
 
+        for (final ServerWorld world : SpongeCommon.getGame().getServer().getWorldManager().worlds()) {
+            if (SpongeGameConfigs.getForWorld(world).get().spawner.budget.enabled) {
+                tps.add(this.spawnBudgetInfo(world));
+            }
+        }
+
+        if (SpongeConfigs.getCommon().get().optimizations.tickGovernor.enabled) {
+            this.addTickGovernorInfo(tps);
+        }
+
         SpongeCommon.getGame().getServiceProvider()
                 .paginationService()
                 .builder()
@@ -429,6 +533,36 @@ private CommandResult tpsExecutor(final CommandContext context) {
         return CommandResult.success();
     }
 
+    private Component spawnBudgetInfo(final ServerWorld world) {
+        final SpawnBudget budget = ((ServerWorldBridge) world).bridge$spawnBudget();
+        return Component.text()
+                .append(Component.text("Spawning ["))
+                .append(Component.text(world.getKey().asString(), NamedTextColor.DARK_GREEN))
+                .append(Component.text("]: "))
+                .append(Component.text(budget.getSuccesses(), NamedTextColor.LIGHT_PURPLE))
+                .append(Component.text(" spawned in "))
+                .append(Component.text(budget.getAttempts(), NamedTextColor.LIGHT_PURPLE))
+                .append(Component.text(" cycles, "))
+                .append(Component.text(budget.getSkippedCycles(), NamedTextColor.RED))
+                .append(Component.text(" skipped over "))
+                .append(Component.text(budget.getSkippedTicks(), NamedTextColor.RED))
+                .append(Component.text(" ticks, budget at "))
+                .append(Component.text(Math.round(budget.getScale() * 100) + "%", NamedTextColor.GOLD))
+                .build();
+    }
+
+    private void addTickGovernorInfo(final List<Component> tps) {
+        TickGovernor.INSTANCE.getLevels().forEach((world, level) -> tps.add(Component.text()
+                .append(Component.text("Governor ["))
+                .append(Component.text(world.location().toString(), NamedTextColor.DARK_GREEN))
+                .append(Component.text("]: level "))
+                .append(Component.text(level, level == 0 ? NamedTextColor.GREEN : NamedTextColor.RED))
+                .build()));
+        for (final TickGovernor.Adjustment<?> adjustment : TickGovernor.INSTANCE.getRecentAdjustments()) {
+            tps.add(Component.text(adjustment.toString(), NamedTextColor.GRAY));
+        }
+    }
+
     private TextComponent.Builder appendTickTime(final long[] tickTimes, final TextComponent.Builder builder) {
         final double averageTickTime = Mth.average(tickTimes) * 1.0E-6D;
         builder.append(Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(Math.min(1000.0 / (averageTickTime), 20)), NamedTextColor.LIGHT_PURPLE))
@@ -24,9 +24,12 @@
  */
 package org.spongepowered.common.config.inheritable;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.common.applaunch.config.core.ConfigHandle;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.world.storage.WriteBehindQueue;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
@@ -36,6 +39,8 @@
 
 public final class InheritableConfigHandle<T extends BaseConfig> extends ConfigHandle<T> {
 
+    private static final Logger LOGGER = LogManager.getLogger();
+
     /**
      * The parent configuration - values are inherited from this
      */
@@ -107,6 +112,9 @@ public void doSave() throws ConfigurateException {
             return;
         }
 
+        // an older snapshot still waiting to be written in the background must not overwrite this save
+        WriteBehindQueue.INSTANCE.discard(this);
+
         // save from the mapped object --> node
         this.mapper.save(this.instance, this.node);
 
@@ -130,6 +138,41 @@ public void doSave() throws ConfigurateException {
         }
     }
 
+    /**
+     * Saves this configuration, and its parent, from a snapshot taken on the
+     * calling thread and leaves the disk write to the
+     * {@link WriteBehindQueue}.
+     *
+     * <p>Writes for the same handle are coalesced, so only the most recent
+     * snapshot queued before the writer gets to it reaches the disk.</p>
+     */
+    public void scheduleSave() {
+        if (!this.isAttached()) {
+            return;
+        }
+
+        final CommentedConfigurationNode snapshot;
+        try {
+            this.mapper.save(this.instance, this.node);
+            snapshot = this.node.copy();
+        } catch (final ConfigurateException ex) {
+            InheritableConfigHandle.LOGGER.error("Unable to save configuration to {}", this.loader, ex);
+            return;
+        }
+
+        // Duplicates are resolved against the parent as it is right now, not when the write happens
+        if (this.parent != null) {
+            this.removeDuplicates(snapshot);
+        }
+
+        WriteBehindQueue.INSTANCE.submit(this, () -> this.loader.save(snapshot));
+
+        // Same ordering rules as doSave, parent is queued after the child
+        if (this.parent != null) {
+            this.parent.scheduleSave();
+        }
+    }
+
     /**
      * Traverses the given {@code root} config node, removing any values which
      * are also present and set to the same value on this configs "parent".
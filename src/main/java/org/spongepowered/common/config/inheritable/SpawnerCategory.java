@@ -37,6 +37,9 @@ public final class SpawnerCategory {
     @Setting("tick-rates")
     public final TickRatesSubCategory tickRates = new TickRatesSubCategory();
 
+    @Setting
+    public final BudgetSubCategory budget = new BudgetSubCategory();
+
     @ConfigSerializable
     public static final class SpawnLimitsSubCategory {
 
@@ -84,4 +87,22 @@ public static final class TickRatesSubCategory {
         @Comment("The monster ambient spawning tick rate. Default: 1")
         public int monster = 1;
     }
+
+    @ConfigSerializable
+    public static final class BudgetSubCategory {
+
+        @Setting
+        @Comment("If 'true', natural spawning and spawners of this world share a time budget per tick. \n"
+                + "Spawning that does not fit into the budget is skipped and tried again on later ticks.")
+        public boolean enabled = false;
+
+        @Setting("max-milliseconds-per-tick")
+        @Comment("The time in milliseconds this world may spend on spawning each tick while the server keeps up.")
+        public double maxMillisecondsPerTick = 2.0;
+
+        @Setting("target-tick-time")
+        @Comment("The average tick time in milliseconds above which the spawn budget is reduced, \n"
+                + "down to a tenth of its size. The budget recovers once the server has caught up.")
+        public double targetTickTime = 45.0;
+    }
 }
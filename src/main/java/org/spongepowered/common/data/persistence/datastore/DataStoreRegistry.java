@@ -49,6 +49,7 @@ public final class DataStoreRegistry {
     private final Multimap<Key<?>, DataStore> dataStoreByValueKey = HashMultimap.create();
     private final Map<LookupKey, DataStore> dataStoreCache = new ConcurrentHashMap<>();
     private final Multimap<ResourceKey, DataStore> dataStoreByDataStoreKey = HashMultimap.create();
+    private final Map<LookupKey, Optional<DataStore>> dataStoreByDataStoreKeyCache = new ConcurrentHashMap<>();
 
     public void register(final DataStore dataStore, Iterable<Key<?>> keys) {
         keys.forEach(k -> this.dataStoreByValueKey.put(k, dataStore));
@@ -57,6 +58,7 @@ public void register(final DataStore dataStore, Iterable<Key<?>> keys) {
             this.dataStoreByDataStoreKey.put(customDataKey, dataStore);
         }
         this.dataStoreCache.clear();
+        this.dataStoreByDataStoreKeyCache.clear();
     }
 
     public Collection<DataStore> getDataStores(Key<?> dataKey) {
@@ -72,18 +74,23 @@ public DataStore getDataStore(final Key<?> dataKey, final Type holderType) {
     }
 
     public Optional<DataStore> getDataStore(final ResourceKey key, final Type holderType) {
-        // TODO do we need caching for this too?
-        final List<DataStore> dataStores = this.filterDataStoreCandidates(this.dataStoreByDataStoreKey.get(key), holderType);
+        return this.dataStoreByDataStoreKeyCache.computeIfAbsent(new LookupKey(holderType, key), this::loadCustomDataStore);
+    }
+
+    private Optional<DataStore> loadCustomDataStore(final LookupKey lookupKey) {
+        final List<DataStore> dataStores = this.filterDataStoreCandidates(this.dataStoreByDataStoreKey.get((ResourceKey) lookupKey.key),
+                lookupKey.holderType);
         if (dataStores.size() > 1) {
-            throw new IllegalStateException("Multiple data-stores registered for the same key (" + key + ") and data-holder " + holderType.toString());
+            throw new IllegalStateException("Multiple data-stores registered for the same key (" + lookupKey.key + ") and data-holder " + lookupKey.holderType.toString());
         }
         return dataStores.stream().findAny();
     }
 
     private DataStore loadDataStore(final LookupKey lookupKey) {
-        final List<DataStore> dataStores = filterDataStoreCandidates(this.dataStoreByValueKey.get(lookupKey.key), lookupKey.holderType);
+        final Key<?> key = (Key<?>) lookupKey.key;
+        final List<DataStore> dataStores = filterDataStoreCandidates(this.dataStoreByValueKey.get(key), lookupKey.holderType);
         if (dataStores.size() > 1) {
-            throw new IllegalStateException("Multiple data-stores registered for the same data-key (" + lookupKey.key.getKey() + ") and data-holder " + lookupKey.holderType.toString());
+            throw new IllegalStateException("Multiple data-stores registered for the same data-key (" + key.getKey() + ") and data-holder " + lookupKey.holderType.toString());
         }
         if (dataStores.isEmpty()) {
             dataStores.add(this.NO_OP_DATASTORE);
@@ -100,9 +107,10 @@ private List<DataStore> filterDataStoreCandidates(Collection<DataStore> candidat
     private static class LookupKey {
 
         private final Type holderType;
-        private final Key<?> key;
+        // Either a value Key or the ResourceKey of a custom data store
+        private final Object key;
 
-        public LookupKey(final Type holderType, final Key<?> key) {
+        public LookupKey(final Type holderType, final Object key) {
             this.holderType = holderType;
             this.key = key;
         }
@@ -25,6 +25,7 @@
 package org.spongepowered.common.data.provider;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.block.entity.BlockEntity;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataTransactionResult;
@@ -34,59 +35,76 @@
 import org.spongepowered.common.bridge.data.CustomDataHolderBridge;
 
 import java.lang.reflect.Type;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CustomDataProvider<V extends Value<E>, E> extends MutableDataProvider<V, E> {
 
     private final Set<Type> supportedTokens;
+    private final boolean supportsBlockEntities;
+    // The supported tokens never change, so whether a holder class is supported can be cached
+    private final Map<Class<?>, Boolean> supportedHolderClasses = new ConcurrentHashMap<>();
 
     public CustomDataProvider(final Key<V> key, final Set<Type> supportedTokens) {
         super(key);
         this.supportedTokens = supportedTokens;
+        this.supportsBlockEntities = this.isSupportedClass(BlockEntity.class);
     }
 
     @Override
     public Optional<E> get(DataHolder dataHolder) {
-        if (this.isSupported(dataHolder)) {
-            final CustomDataHolderBridge customDataHolder = CustomDataProvider.getCustomDataHolder(dataHolder);
+        final @Nullable CustomDataHolderBridge customDataHolder = this.getCustomDataHolder(dataHolder);
+        if (customDataHolder != null) {
             return customDataHolder.bridge$getCustom(this.getKey());
         }
         return Optional.empty();
     }
 
-    private static CustomDataHolderBridge getCustomDataHolder(DataHolder dataHolder) {
-        final CustomDataHolderBridge customDataHolder;
-        if (dataHolder instanceof ServerLocation) {
-            customDataHolder = (CustomDataHolderBridge) ((ServerLocation) dataHolder).getBlockEntity().get();
-        } else {
-            customDataHolder = (CustomDataHolderBridge) dataHolder;
+    /**
+     * Resolves the custom data holder of the given data holder in a single
+     * pass, or {@code null} if the data holder isn't supported.
+     *
+     * @param dataHolder The data holder
+     * @return The custom data holder, if supported
+     */
+    private @Nullable CustomDataHolderBridge getCustomDataHolder(final DataHolder dataHolder) {
+        if (dataHolder instanceof CustomDataHolderBridge) {
+            return this.isSupportedClass(dataHolder.getClass()) ? (CustomDataHolderBridge) dataHolder : null;
+        }
+        if (dataHolder instanceof ServerLocation && this.supportsBlockEntities) {
+            return (CustomDataHolderBridge) ((ServerLocation) dataHolder).getBlockEntity().orElse(null);
+        }
+        return null;
+    }
+
+    private boolean isSupportedClass(final Class<?> holderClass) {
+        final @Nullable Boolean supported = this.supportedHolderClasses.get(holderClass);
+        if (supported != null) {
+            return supported;
+        }
+        return this.supportedHolderClasses.computeIfAbsent(holderClass, this::computeSupportedClass);
+    }
+
+    private boolean computeSupportedClass(final Class<?> holderClass) {
+        for (final Type type : this.supportedTokens) {
+            if (GenericTypeReflector.erase(type).isAssignableFrom(holderClass)) {
+                return true;
+            }
         }
-        return customDataHolder;
+        return false;
     }
 
     @Override
     public boolean isSupported(DataHolder dataHolder) {
         if (dataHolder instanceof ServerLocation) {
-            if (!((ServerLocation) dataHolder).hasBlockEntity()) {
-                return false;
-            }
-            for (final Type type : this.supportedTokens) {
-                if (GenericTypeReflector.erase(type).isAssignableFrom(BlockEntity.class)) {
-                    return true;
-                }
-            }
-            return false;
+            return this.supportsBlockEntities && ((ServerLocation) dataHolder).hasBlockEntity();
         }
         if (!(dataHolder instanceof CustomDataHolderBridge)) {
             return false;
         }
-        for (final Type type : this.supportedTokens) {
-            if (GenericTypeReflector.erase(type).isAssignableFrom(dataHolder.getClass())) {
-                return true;
-            }
-        }
-        return false;
+        return this.isSupportedClass(dataHolder.getClass());
     }
 
     @Override
@@ -104,16 +122,18 @@ public boolean isSupported(final Type dataHolder) {
 
     @Override
     public DataTransactionResult offer(DataHolder.Mutable dataHolder, E element) {
-        if (this.isSupported(dataHolder)) {
-            return CustomDataProvider.getCustomDataHolder(dataHolder).bridge$offerCustom(this.getKey(),  element);
+        final @Nullable CustomDataHolderBridge customDataHolder = this.getCustomDataHolder(dataHolder);
+        if (customDataHolder != null) {
+            return customDataHolder.bridge$offerCustom(this.getKey(), element);
         }
         return DataTransactionResult.failNoData();
     }
 
     @Override
     public DataTransactionResult remove(DataHolder.Mutable dataHolder) {
-        if (this.isSupported(dataHolder)) {
-            return CustomDataProvider.getCustomDataHolder(dataHolder).bridge$removeCustom(this.getKey());
+        final @Nullable CustomDataHolderBridge customDataHolder = this.getCustomDataHolder(dataHolder);
+        if (customDataHolder != null) {
+            return customDataHolder.bridge$removeCustom(this.getKey());
         }
         return DataTransactionResult.failNoData();
     }
@@ -0,0 +1,148 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.effect.particle;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A spatial index of the players within a {@link ServerLevel}, bucketed by the
+ * chunk they are standing in. The index is rebuilt at most once per server tick
+ * so that many particle dispatches within the same tick only have to look at
+ * the players around each particle, instead of every online player.
+ *
+ * <p>Every level owns its own index, so the players it holds are released
+ * with the level.</p>
+ *
+ * @param <P> The type of player
+ */
+public final class ParticleViewerIndex<P> {
+
+    // Players may move a little during the tick after the index was built, so
+    // always look one chunk further than strictly required by the radius.
+    private static final int CHUNK_PADDING = 1;
+
+    public static ParticleViewerIndex<ServerPlayer> forPlayers() {
+        return new ParticleViewerIndex<>(Entity::position);
+    }
+
+    private final Function<P, Vec3> position;
+    private final Long2ObjectMap<List<P>> playersByChunk = new Long2ObjectOpenHashMap<>();
+    private final List<P> players = new ArrayList<>();
+    private int tick = -1;
+    private int playerCount = -1;
+
+    ParticleViewerIndex(final Function<P, Vec3> position) {
+        this.position = position;
+    }
+
+    /**
+     * Rebuilds the index if it was built on an earlier tick, or if players
+     * joined or left the level since.
+     *
+     * @param tick The current server tick
+     * @param players The players of the level
+     */
+    void update(final int tick, final Collection<? extends P> players) {
+        if (this.tick == tick && this.playerCount == players.size()) {
+            return;
+        }
+        this.playersByChunk.clear();
+        this.players.clear();
+        for (final P player : players) {
+            final Vec3 position = this.position.apply(player);
+            final long chunk = ChunkPos.asLong(Mth.floor(position.x) >> 4, Mth.floor(position.z) >> 4);
+            this.playersByChunk.computeIfAbsent(chunk, k -> new ArrayList<>(2)).add(player);
+            this.players.add(player);
+        }
+        this.tick = tick;
+        this.playerCount = this.players.size();
+    }
+
+    boolean isEmpty() {
+        return this.players.isEmpty();
+    }
+
+    /**
+     * Collects all players that are strictly within the given radius of the
+     * position, using the same distance check as
+     * {@link net.minecraft.server.players.PlayerList#broadcast}.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @param radius The radius
+     * @param output The list to add the nearby players to
+     */
+    void collect(final double x, final double y, final double z, final double radius, final List<P> output) {
+        final double radiusSquared = radius * radius;
+        final long chunkRadius = ((long) Math.ceil(radius) >> 4) + ParticleViewerIndex.CHUNK_PADDING;
+        final long chunkArea = (2 * chunkRadius + 1) * (2 * chunkRadius + 1);
+        if (chunkArea >= this.playersByChunk.size()) {
+            // Looking up every chunk in range would be more expensive than just
+            // checking the few occupied chunks directly.
+            for (final P player : this.players) {
+                this.collectIfNear(player, x, y, z, radiusSquared, output);
+            }
+            return;
+        }
+        final int centerX = Mth.floor(x) >> 4;
+        final int centerZ = Mth.floor(z) >> 4;
+        final int range = (int) chunkRadius;
+        for (int chunkX = centerX - range; chunkX <= centerX + range; chunkX++) {
+            for (int chunkZ = centerZ - range; chunkZ <= centerZ + range; chunkZ++) {
+                final List<P> bucket = this.playersByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (bucket == null) {
+                    continue;
+                }
+                for (final P player : bucket) {
+                    this.collectIfNear(player, x, y, z, radiusSquared, output);
+                }
+            }
+        }
+    }
+
+    private void collectIfNear(final P player, final double x, final double y, final double z, final double radiusSquared,
+            final List<P> output) {
+        final Vec3 position = this.position.apply(player);
+        final double dx = x - position.x;
+        final double dy = y - position.y;
+        final double dz = z - position.z;
+        if (dx * dx + dy * dy + dz * dz < radiusSquared) {
+            output.add(player);
+        }
+    }
+}
@@ -32,13 +32,19 @@
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.util.Color;
 import org.spongepowered.api.util.Direction;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3f;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.BlockParticleOption;
 import net.minecraft.core.particles.DustParticleOptions;
@@ -48,6 +54,8 @@
 import net.minecraft.network.protocol.game.ClientboundLevelEventPacket;
 import net.minecraft.network.protocol.game.ClientboundLevelParticlesPacket;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.players.PlayerList;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
@@ -56,31 +64,77 @@ public final class SpongeParticleHelper {
 
     public static void sendPackets(final ParticleEffect particleEffect, final Vector3d position, final int radius, final ResourceKey<Level> type,
                                    final PlayerList playerList) {
-        final List<Packet<?>> packets = SpongeParticleHelper.toPackets(particleEffect, position);
+        final ServerLevel level = playerList.getServer().getLevel(type);
+        if (level == null) {
+            return;
+        }
+        SpongeParticleHelper.sendPackets(Collections.singletonMap(particleEffect, Collections.singletonList(position)), radius, level);
+    }
+
+    /**
+     * Sends many particle effects at once to the players of the given world.
+     *
+     * <p>Instead of scanning every online player for every packet, as
+     * {@link PlayerList#broadcast} does, the players of the world are bucketed
+     * by chunk once per tick and only the players in the chunks around each
+     * position are considered. This must be called on the server thread.</p>
+     *
+     * @param effects The particle effects mapped to the positions to spawn them at
+     * @param radius The radius around each position in which players will receive the particles
+     * @param level The world to spawn the particles in
+     */
+    public static void sendPackets(final Map<ParticleEffect, ? extends Collection<Vector3d>> effects, final int radius, final ServerLevel level) {
+        final ParticleViewerIndex<ServerPlayer> index = ((ServerWorldBridge) level).bridge$particleViewerIndex();
+        index.update(level.getServer().getTickCount(), level.players());
+        SpongeParticleHelper.sendPackets(effects, radius, index, SpongeParticleHelper::getOrCreateCachedPacket, (viewer, packet) -> {
+            if (!viewer.removed) {
+                viewer.connection.send(packet);
+            }
+        });
+    }
 
-        if (!packets.isEmpty()) {
-            final double x = position.getX();
-            final double y = position.getY();
-            final double z = position.getZ();
+    static <E, P> void sendPackets(final Map<E, ? extends Collection<Vector3d>> effects, final int radius, final ParticleViewerIndex<P> index,
+            final Function<E, CachedParticlePacket> packetFunction, final BiConsumer<P, Packet<?>> sender) {
+        if (index.isEmpty()) {
+            return;
+        }
 
-            for (final Packet<?> packet : packets) {
-                playerList.broadcast(null, x, y, z, radius, type, packet);
+        final List<Packet<?>> packets = new ArrayList<>();
+        final List<P> viewers = new ArrayList<>();
+        for (final Map.Entry<E, ? extends Collection<Vector3d>> entry : effects.entrySet()) {
+            final CachedParticlePacket cachedPacket = packetFunction.apply(entry.getKey());
+            for (final Vector3d position : entry.getValue()) {
+                viewers.clear();
+                index.collect(position.getX(), position.getY(), position.getZ(), radius, viewers);
+                if (viewers.isEmpty()) {
+                    continue;
+                }
+                packets.clear();
+                cachedPacket.process(position, packets);
+                for (final P viewer : viewers) {
+                    for (final Packet<?> packet : packets) {
+                        sender.accept(viewer, packet);
+                    }
+                }
             }
         }
     }
 
     public static List<Packet<?>> toPackets(final ParticleEffect effect, final Vector3d position) {
-        SpongeParticleEffect spongeEffect = (SpongeParticleEffect) effect;
+        final List<Packet<?>> packets = new ArrayList<>();
+        SpongeParticleHelper.getOrCreateCachedPacket(effect).process(position, packets);
+        return packets;
+    }
+
+    private static CachedParticlePacket getOrCreateCachedPacket(final ParticleEffect effect) {
+        final SpongeParticleEffect spongeEffect = (SpongeParticleEffect) effect;
 
         CachedParticlePacket cachedPacket = spongeEffect.cachedPacket;
         if (cachedPacket == null) {
             // Also save the generated packet cache for repeated uses.
             cachedPacket = spongeEffect.cachedPacket = SpongeParticleHelper.getCachedPacket(spongeEffect);
         }
-
-        final List<Packet<?>> packets = new ArrayList<>();
-        cachedPacket.process(position, packets);
-        return packets;
+        return cachedPacket;
     }
 
     public static CachedParticlePacket getCachedPacket(final SpongeParticleEffect effect) {
@@ -113,4 +113,6 @@ public final class ShouldFire {
 
     public static boolean KICK_PLAYER_EVENT = false;
 
+    public static boolean CLIENT_PING_SERVER_EVENT = false;
+
 }
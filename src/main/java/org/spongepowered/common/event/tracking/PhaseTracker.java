@@ -92,14 +92,32 @@ public final class PhaseTracker implements CauseStackManager {
     public static final Logger LOGGER = LogManager.getLogger(PhaseTracker.class);
     static final CopyOnWriteArrayList<net.minecraft.world.entity.Entity> ASYNC_CAPTURED_ENTITIES = new CopyOnWriteArrayList<>();
     private static final Map<Thread, PhaseTracker> SPINOFF_TRACKERS = new MapMaker().weakKeys().concurrencyLevel(8).makeMap();
+    private static final ThreadLocal<PhaseTracker> SPINOFF_TRACKER = ThreadLocal.withInitial(
+        () -> PhaseTracker.SPINOFF_TRACKERS.computeIfAbsent(Thread.currentThread(), PhaseTracker::createSpinoffTracker));
     private static final boolean DEBUG_CAUSE_FRAMES = Boolean.parseBoolean(System.getProperty("sponge.debugcauseframes", "false"));
     private static final String INITIAL_POOL_SIZE_PROPERTY = "sponge.cause.initialFramePoolSize";
     private static final String MAX_POOL_SIZE_PROPERTY = "sponge.cause.maxFramePoolSize";
     private static final int INITIAL_POOL_SIZE;
     private static final int MAX_POOL_SIZE;
 
+    /**
+     * Whether {@code optimizations.faster-thread-checks} was enabled when the
+     * server or client thread was assigned. Read once so that the hot lookup
+     * paths do not go through the config for every call.
+     */
+    private static volatile boolean fasterThreadChecks = false;
+
     public static PhaseTracker getInstance() {
         final Thread current = Thread.currentThread();
+        if (PhaseTracker.fasterThreadChecks) {
+            if (current == PhaseTracker.SERVER.fastSidedThread) {
+                return PhaseTracker.SERVER;
+            }
+            if (current == PhaseTracker.CLIENT.fastSidedThread) {
+                return PhaseTracker.CLIENT;
+            }
+            return PhaseTracker.SPINOFF_TRACKER.get();
+        }
         if (current == PhaseTracker.SERVER.getSidedThread()) {
             return PhaseTracker.SERVER;
         }
@@ -107,15 +125,17 @@ public static PhaseTracker getInstance() {
             return PhaseTracker.CLIENT;
         }
 
-        return PhaseTracker.SPINOFF_TRACKERS.computeIfAbsent(current, (thread) -> {
-            try {
-                final PhaseTracker phaseTracker = new PhaseTracker();
-                phaseTracker.setThread(thread);
-                return phaseTracker;
-            } catch (final IllegalAccessException e) {
-                throw new RuntimeException("Unable to create a new PhaseTracker for Thread: " + thread, e);
-            }
-        });
+        return PhaseTracker.SPINOFF_TRACKERS.computeIfAbsent(current, PhaseTracker::createSpinoffTracker);
+    }
+
+    private static PhaseTracker createSpinoffTracker(final Thread thread) {
+        try {
+            final PhaseTracker phaseTracker = new PhaseTracker();
+            phaseTracker.setThread(thread);
+            return phaseTracker;
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException("Unable to create a new PhaseTracker for Thread: " + thread, e);
+        }
     }
 
     public static CauseStackManager getCauseStackManager() {
@@ -214,6 +234,13 @@ public static Block validateBlockForNeighborNotification(final ServerLevel world
     @Nullable private EventContext cached_ctx;
     private final AtomicBoolean pendingProviders = new AtomicBoolean(false);
     @Nullable private WeakReference<Thread> sidedThread;
+    /*
+     * Strong copy of the sided thread, only kept for the server and client
+     * trackers when faster thread checks are enabled. Spin-off trackers are
+     * values of a weak keyed map, so they must never hold their own thread
+     * strongly.
+     */
+    @Nullable private volatile Thread fastSidedThread;
     private boolean hasRun = false;
     /*
      * Specifically a Deque because we need to replicate
@@ -266,6 +293,7 @@ public void init() {
     public void setThread(@Nullable final Thread thread) throws IllegalAccessException {
         if ((this == PhaseTracker.SERVER || this == PhaseTracker.CLIENT) && thread == null) {
             this.sidedThread = new WeakReference<>(null);
+            this.fastSidedThread = null;
             return;
         }
 
@@ -292,7 +320,8 @@ public void setThread(@Nullable final Thread thread) throws IllegalAccessExcepti
         }
 
         this.sidedThread = new WeakReference<>(thread);
-
+        PhaseTracker.fasterThreadChecks = SpongeConfigs.getCommon().get().optimizations.fasterThreadChecks;
+        this.fastSidedThread = PhaseTracker.fasterThreadChecks ? thread : null;
     }
 
     public boolean onSidedThread() {
@@ -317,6 +346,10 @@ public PhaseContext<?> getPhaseContext() {
 
     @Nullable
     public Thread getSidedThread() {
+        final @Nullable Thread fastSidedThread = this.fastSidedThread;
+        if (fastSidedThread != null) {
+            return fastSidedThread;
+        }
         return this.sidedThread != null ? this.sidedThread.get() : null;
     }
 
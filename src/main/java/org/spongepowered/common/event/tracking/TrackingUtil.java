@@ -66,13 +66,11 @@
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TileEntityTickContext;
 import org.spongepowered.common.util.PrettyPrinter;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
 
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.BlockEventData;
 import net.minecraft.world.level.block.Block;
@@ -472,10 +470,8 @@ public static void associateTrackerToTarget(final BlockChange blockChange, final
 
     public static void addTileEntityToBuilder(final net.minecraft.world.level.block.entity.BlockEntity existing, final SpongeBlockSnapshotBuilder builder) {
         // TODO - gather custom data.
-        final CompoundTag compound = new CompoundTag();
         try {
-            existing.save(compound);
-            builder.addUnsafeCompound(compound);
+            builder.tileEntity(existing);
         }
         catch (final Throwable t) {
             // ignore
@@ -508,10 +504,9 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
         final Supplier<Optional<UUID>> notifierSupplier
     ) {
         final SpongeBlockSnapshotBuilder builder = SpongeBlockSnapshotBuilder.pooled();
-        builder.reset();
         builder.blockState(state)
                 .world(worldSupplier.get())
-                .position(VecHelper.toVector3i(pos));
+                .position(pos);
         creatorSupplier.get().ifPresent(builder::creator);
         notifierSupplier.get().ifPresent(builder::notifier);
         if (blockEntity != null) {
@@ -24,8 +24,10 @@
  */
 package org.spongepowered.common.event.tracking.context.transaction.effect;
 
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.BlockPipeline;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.PipelineCursor;
+import org.spongepowered.common.item.util.ItemStackUtil;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
 import java.util.List;
@@ -56,7 +58,10 @@ public EffectResult processSideEffect(
         final ServerLevel world = pipeline.getServerWorld();
         final BlockPos pos = oldState.pos;
 
-        final List<ItemStack> drops = oldState.drops;
+        // Vanilla pre-merges explosion drops, do the same for the drops of each block so fewer entities are spawned
+        final List<ItemStack> drops = SpongeConfigs.getCommon().get().optimizations.dropsPreMerge
+            ? ItemStackUtil.preMergeNative(oldState.drops)
+            : oldState.drops;
 
         drops.forEach(drop -> Block.popResource(world, pos, drop));
 
@@ -34,6 +34,7 @@
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
 import org.spongepowered.common.inventory.lens.slots.SlotLens;
 import org.spongepowered.common.inventory.property.KeyValuePair;
+import org.spongepowered.common.inventory.query.SpongeQuery;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -43,6 +44,8 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public abstract class AbstractLens implements Lens {
 
@@ -59,6 +62,8 @@ public abstract class AbstractLens implements Lens {
 
     private int maxOrdinal = 0;
 
+    private final Map<SpongeQuery, Object> structuralQueryResults = new ConcurrentHashMap<>();
+
     public AbstractLens(final int base, final int size) {
         checkArgument(base >= 0, "Invalid offset: %s", base);
         checkArgument(size > 0, "Invalid size: %s", size);
@@ -101,6 +106,23 @@ private void addKeyValuePairs(Lens lens, KeyValuePair[] keyValuePairs) {
         }
     }
 
+    /**
+     * Gets the result of a structural query that has been run with this lens
+     * as its root, computing it on the first call. What the result is depends
+     * on the query. Only queries with a bounded number of distinct instances
+     * may be cached, such as type, grid and slot index queries, as the results
+     * are kept for as long as the lens.
+     *
+     * @param query The query
+     * @param compute The function computing the result
+     * @param <T> The type of the result
+     * @return The cached result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getStructuralQueryResult(final SpongeQuery query, final Function<SpongeQuery, T> compute) {
+        return (T) this.structuralQueryResults.computeIfAbsent(query, compute);
+    }
+
     protected void setParent(final Lens parent) {
         this.parent = parent;
     }
@@ -28,6 +28,7 @@
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
 
 import java.util.LinkedHashMap;
@@ -41,6 +42,18 @@ public abstract class SpongeDepthQuery extends SpongeQuery {
 
     public abstract boolean matches(Lens lens, Lens parent, Inventory inventory);
 
+    /**
+     * Whether {@link #matches(Lens, Lens, Inventory)} depends on nothing but
+     * the lens itself. Lenses don't change once built, so the result of the
+     * search for such a query can be reused for every inventory with the same
+     * root lens. Queries returning true must implement equals and hashCode.
+     *
+     * @return Whether this query only looks at lens structure
+     */
+    protected boolean isStructural() {
+        return false;
+    }
+
     public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
@@ -49,7 +62,17 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
             return lens.getAdapter(fabric, inventory);
         }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.search(inventory, lens)));
+    }
+
+    private Map<Lens, Integer> search(Inventory inventory, Lens lens) {
+        if (!this.isStructural() || !(lens instanceof AbstractLens)) {
+            return this.depthFirstSearch(inventory, lens);
+        }
+        final Map<Lens, Integer> cached = ((AbstractLens) lens).getStructuralQueryResult(this,
+                k -> this.depthFirstSearch(inventory, lens));
+        // reduce modifies the map it is given
+        return new LinkedHashMap<>(cached);
     }
 
     private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
@@ -29,6 +29,8 @@
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.adapter.impl.comp.GridInventoryAdapter;
 import org.spongepowered.common.inventory.lens.CompoundSlotLensProvider;
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.inventory.lens.impl.comp.GridInventoryLens;
 import org.spongepowered.common.inventory.query.SpongeQuery;
 import org.spongepowered.math.vector.Vector2i;
@@ -58,6 +60,15 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
             return new EmptyInventoryImpl(inventory);
         }
 
+        // The sub grid only depends on the slots of the grid lens, so it is shared by every inventory with that lens
+        final Lens rootLens = adapter.inventoryAdapter$getRootLens();
+        GridInventoryLens lens = rootLens instanceof AbstractLens
+                ? ((AbstractLens) rootLens).getStructuralQueryResult(this, k -> this.buildLens(gridAdapter))
+                : this.buildLens(gridAdapter);
+        return new GridInventoryAdapter(adapter.inventoryAdapter$getFabric(), lens, inventory);
+    }
+
+    private GridInventoryLens buildLens(GridInventoryAdapter gridAdapter) {
         // Get slots for new grid
         CompoundSlotLensProvider slotProvider = new CompoundSlotLensProvider();
 
@@ -68,9 +79,24 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         }
 
         // build new grid lens
-        GridInventoryLens lens = new GridInventoryLens(0, this.size.getX(), this.size.getY(), slotProvider);
-        return new GridInventoryAdapter(adapter.inventoryAdapter$getFabric(), lens, inventory);
+        return new GridInventoryLens(0, this.size.getX(), this.size.getY(), slotProvider);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final GridQuery that = (GridQuery) o;
+        return this.offset.equals(that.offset) && this.size.equals(that.size);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.offset.hashCode() + this.size.hashCode();
+    }
 
 }
@@ -26,12 +26,14 @@
 
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.KeyValueMatcher;
+import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.api.item.inventory.Slot;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
 import org.spongepowered.common.inventory.query.SpongeQuery;
 
@@ -90,9 +92,28 @@ private Map<Lens, Integer> search(final Inventory inventory, final Lens lens) {
                 return matches;
             }
         }
+        if (lens instanceof AbstractLens && this.isCacheable(lens)) {
+            // The inventory itself did not match, so only the lens properties are left to match, which don't change
+            final Map<Lens, Integer> cached = ((AbstractLens) lens).getStructuralQueryResult(this,
+                    k -> this.depthLaterSearch(inventory, lens));
+            // reduce modifies the map it is given
+            return new LinkedHashMap<>(cached);
+        }
         return this.depthLaterSearch(inventory, lens);
     }
 
+    /**
+     * Matchers can hold any value a plugin passes, so only slot index queries
+     * within the lens are cached, of which there are only as many as slots.
+     */
+    private boolean isCacheable(final Lens lens) {
+        if (this.matcher.getKey() != Keys.SLOT_INDEX) {
+            return false;
+        }
+        final Object value = this.matcher.getValue().orElse(null);
+        return value instanceof Integer && (Integer) value >= 0 && (Integer) value < lens.slotCount();
+    }
+
     private Map<Lens, Integer> depthLaterSearch(final Inventory inventory, final Lens lens) {
         final Map<Lens, Integer> matches = new LinkedHashMap<>();
 
@@ -141,4 +162,20 @@ public boolean matches(final Lens lens, final Lens parent, final Inventory inven
         return this.matcher.matches((T) value);
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        return this.matcher.equals(((KeyValueMatcherQuery<?>) o).matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.matcher.hashCode();
+    }
+
 }
@@ -28,6 +28,7 @@
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -134,6 +135,44 @@ public static boolean compareIgnoreQuantity(ItemStack stack1, net.minecraft.worl
         return ItemStackUtil.compareIgnoreQuantity(ItemStackUtil.toNative(stack1), stack2);
     }
 
+    /**
+     * Combines stacks of the same item and tag into as few stacks as their
+     * max stack size allows, in the order they first appear. The given stacks
+     * may be grown while merging, so the list should not be used afterwards.
+     *
+     * @param stacks the stacks to merge
+     * @return the merged stacks, without empty stacks
+     */
+    public static List<net.minecraft.world.item.ItemStack> preMergeNative(List<net.minecraft.world.item.ItemStack> stacks) {
+        if (stacks.size() < 2) {
+            return stacks;
+        }
+        final List<net.minecraft.world.item.ItemStack> merged = new ArrayList<>(stacks.size());
+        for (final net.minecraft.world.item.ItemStack stack : stacks) {
+            if (stack.isEmpty()) {
+                continue;
+            }
+            int remaining = stack.getCount();
+            if (stack.isStackable()) {
+                for (int i = 0; i < merged.size() && remaining > 0; i++) {
+                    final net.minecraft.world.item.ItemStack target = merged.get(i);
+                    final int space = target.getMaxStackSize() - target.getCount();
+                    if (space > 0 && ItemStackUtil.compareIgnoreQuantity(target, stack)) {
+                        final int moved = Math.min(space, remaining);
+                        target.grow(moved);
+                        remaining -= moved;
+                    }
+                }
+            }
+            if (remaining == stack.getCount()) {
+                merged.add(stack);
+            } else if (remaining > 0) {
+                merged.add(ItemStackUtil.cloneDefensiveNative(stack, remaining));
+            }
+        }
+        return merged;
+    }
+
     public static ItemStackSnapshot snapshotOf(net.minecraft.world.item.ItemStack itemStack) {
         return itemStack.isEmpty() ? ItemStackSnapshot.empty() : ItemStackUtil.fromNative(itemStack).createSnapshot();
     }
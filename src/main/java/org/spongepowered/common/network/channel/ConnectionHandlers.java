@@ -0,0 +1,159 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.channel;
+
+import org.spongepowered.api.network.EngineConnection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+/**
+ * A copy-on-write collection of handlers which are bound to a specific type
+ * of {@link EngineConnection}.
+ *
+ * <p>Registrations are rare, so every modification builds a new immutable
+ * snapshot of the registered handlers. Lookups, which happen for every
+ * inbound payload on the netty threads, only read the current snapshot and
+ * never have to acquire a monitor. The handlers that apply to a specific
+ * connection class are resolved once per snapshot.</p>
+ *
+ * @param <H> The handler type
+ */
+public final class ConnectionHandlers<H> {
+
+    private static final Snapshot<?> EMPTY = new Snapshot<>(new Class<?>[0], new Object[0]);
+
+    @SuppressWarnings("unchecked")
+    private volatile Snapshot<H> snapshot = (Snapshot<H>) ConnectionHandlers.EMPTY;
+
+    /**
+     * Adds a handler for the given connection type. Adding the same handler
+     * for the same connection type twice has no effect.
+     *
+     * @param connectionType The connection type
+     * @param handler The handler
+     */
+    public synchronized void add(final Class<?> connectionType, final H handler) {
+        final Snapshot<H> current = this.snapshot;
+        for (int i = 0; i < current.handlers.length; i++) {
+            if (current.connectionTypes[i] == connectionType && current.handlers[i].equals(handler)) {
+                return;
+            }
+        }
+        final int length = current.handlers.length;
+        final Class<?>[] connectionTypes = Arrays.copyOf(current.connectionTypes, length + 1);
+        final Object[] handlers = Arrays.copyOf(current.handlers, length + 1);
+        connectionTypes[length] = connectionType;
+        handlers[length] = handler;
+        this.snapshot = new Snapshot<>(connectionTypes, handlers);
+    }
+
+    /**
+     * Removes the handler for all the connection types.
+     *
+     * @param handler The handler
+     */
+    public void remove(final H handler) {
+        this.removeIf((connectionType, registered) -> registered == handler);
+    }
+
+    /**
+     * Removes the handler for all the connection types which are assignable
+     * from the given connection type.
+     *
+     * @param connectionType The connection type
+     * @param handler The handler
+     */
+    public void remove(final Class<?> connectionType, final H handler) {
+        this.removeIf((registeredType, registered) -> registeredType.isAssignableFrom(connectionType) && registered == handler);
+    }
+
+    private synchronized void removeIf(final BiPredicate<Class<?>, Object> predicate) {
+        final Snapshot<H> current = this.snapshot;
+        final Class<?>[] connectionTypes = new Class<?>[current.handlers.length];
+        final Object[] handlers = new Object[current.handlers.length];
+        int size = 0;
+        for (int i = 0; i < current.handlers.length; i++) {
+            if (!predicate.test(current.connectionTypes[i], current.handlers[i])) {
+                connectionTypes[size] = current.connectionTypes[i];
+                handlers[size] = current.handlers[i];
+                size++;
+            }
+        }
+        if (size != current.handlers.length) {
+            this.snapshot = new Snapshot<>(Arrays.copyOf(connectionTypes, size), Arrays.copyOf(handlers, size));
+        }
+    }
+
+    /**
+     * Gets all the handlers that apply to the given connection, in the order
+     * they were registered in.
+     *
+     * @param connection The connection
+     * @return The handlers
+     */
+    public List<H> get(final EngineConnection connection) {
+        return this.snapshot.resolve(connection.getClass());
+    }
+
+    private static final class Snapshot<H> {
+
+        final Class<?>[] connectionTypes;
+        final Object[] handlers;
+        private final Map<Class<?>, List<H>> byConnectionClass = new ConcurrentHashMap<>();
+
+        Snapshot(final Class<?>[] connectionTypes, final Object[] handlers) {
+            this.connectionTypes = connectionTypes;
+            this.handlers = handlers;
+        }
+
+        List<H> resolve(final Class<?> connectionClass) {
+            final List<H> resolved = this.byConnectionClass.get(connectionClass);
+            if (resolved != null) {
+                return resolved;
+            }
+            return this.byConnectionClass.computeIfAbsent(connectionClass, this::collect);
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<H> collect(final Class<?> connectionClass) {
+            final Object[] matching = new Object[this.handlers.length];
+            int size = 0;
+            for (int i = 0; i < this.handlers.length; i++) {
+                if (this.connectionTypes[i].isAssignableFrom(connectionClass)) {
+                    matching[size++] = this.handlers[i];
+                }
+            }
+            if (size == 0) {
+                return Collections.emptyList();
+            }
+            return (List<H>) Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(matching, size)));
+        }
+    }
+}
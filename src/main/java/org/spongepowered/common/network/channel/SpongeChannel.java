@@ -25,7 +25,6 @@
 package org.spongepowered.common.network.channel;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.collect.Multimap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -43,9 +42,6 @@
 import org.spongepowered.api.network.channel.ChannelNotSupportedException;
 import org.spongepowered.common.SpongeCommon;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -167,22 +163,4 @@ public static <C extends EngineConnection> Class<C> getConnectionClass(final Eng
         }
         return handler;
     }
-
-    public static <H> Collection<H> getResponseHandlers(final EngineConnection connection, final Multimap<Class<?>, H> handlersMap) {
-        Collection<H> handlers = null;
-        boolean modifiable = false;
-        for (final Map.Entry<Class<?>, Collection<H>> entry : handlersMap.asMap().entrySet()) {
-            if (entry.getKey().isInstance(connection)) {
-                if (handlers == null) {
-                    handlers = entry.getValue();
-                } else if (!modifiable) {
-                    handlers = new ArrayList<>(handlers);
-                    modifiable = true;
-                } else {
-                    handlers.addAll(entry.getValue());
-                }
-            }
-        }
-        return handlers == null ? Collections.emptyList() : handlers;
-    }
 }
@@ -25,6 +25,7 @@
 package org.spongepowered.common.network.channel;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.ResourceKey;
@@ -75,7 +76,8 @@
 @SuppressWarnings("unchecked")
 public class SpongeChannelRegistry implements ChannelRegistry {
 
-    private final Map<ResourceKey, SpongeChannel> channels = new HashMap<>();
+    // Copy-on-write, inbound payloads are dispatched by channel key on the netty threads
+    private volatile Map<ResourceKey, SpongeChannel> channels = ImmutableMap.of();
     private final Map<Class<?>, Tuple<Integer, CreateFunction<SpongeChannel>>> channelBuilders = new HashMap<>();
 
     private final ChannelBufferAllocator bufferAllocator;
@@ -102,7 +104,7 @@ private <T extends Channel> void registerChannelType(final int id,
         this.channelBuilders.put(channelType, Tuple.of(id, (CreateFunction<SpongeChannel>) builder));
     }
 
-    public <C extends Channel> C createChannel(final ResourceKey channelKey, final Class<C> channelType) throws DuplicateRegistrationException {
+    public synchronized <C extends Channel> C createChannel(final ResourceKey channelKey, final Class<C> channelType) throws DuplicateRegistrationException {
         Objects.requireNonNull(channelKey, "channelKey");
         Objects.requireNonNull(channelType, "channelType");
         if (this.channels.containsKey(channelKey)) {
@@ -113,7 +115,10 @@ public <C extends Channel> C createChannel(final ResourceKey channelKey, final C
             throw new IllegalArgumentException("Unsupported channel type: " + channelType);
         }
         final SpongeChannel channel = tuple.getSecond().create(tuple.getFirst(), channelKey, this);
-        this.channels.put(channelKey, channel);
+        this.channels = ImmutableMap.<ResourceKey, SpongeChannel>builder()
+                .putAll(this.channels)
+                .put(channelKey, channel)
+                .build();
         return (C) channel;
     }
 
@@ -124,7 +129,7 @@ public Optional<Channel> get(final ResourceKey channelKey) {
     }
 
     @Override
-    public <C extends Channel> C getOfType(final ResourceKey channelKey, final Class<C> channelType) {
+    public synchronized <C extends Channel> C getOfType(final ResourceKey channelKey, final Class<C> channelType) {
         Objects.requireNonNull(channelKey, "channelKey");
         Objects.requireNonNull(channelType, "channelType");
         final Channel binding = this.channels.get(channelKey);
@@ -25,6 +25,9 @@
 package org.spongepowered.common.network.channel.packet;
 
 import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.network.EngineConnection;
@@ -56,7 +59,8 @@
 public abstract class AbstractPacketChannel extends SpongeChannel implements TransactionalPacketRegistry {
 
     protected final Map<Class<?>, PacketBinding<?>> byType = new ConcurrentHashMap<>();
-    protected final Map<Integer, PacketBinding<?>> byOpcode = new ConcurrentHashMap<>();
+    // Copy-on-write, every inbound packet is looked up by opcode on the netty threads
+    protected volatile Int2ObjectMap<PacketBinding<?>> byOpcode = Int2ObjectMaps.emptyMap();
 
     public AbstractPacketChannel(final int type, final ResourceKey key, final SpongeChannelRegistry registry) {
         super(type, key, registry);
@@ -148,39 +152,43 @@ protected void validatePacketClass(final Class<?> packetClass) {
     }
 
     @Override
-    public <P extends Packet> HandlerPacketBinding<P> register(final Class<P> packetClass, final int packetOpcode) {
+    public synchronized <P extends Packet> HandlerPacketBinding<P> register(final Class<P> packetClass, final int packetOpcode) {
         this.checkPossibleRegistration(packetClass, packetOpcode);
         final SpongeHandlerPacketBinding<P> binding = new SpongeHandlerPacketBinding<>(packetOpcode, packetClass);
-        this.byType.put(packetClass, binding);
-        this.byOpcode.put(packetOpcode, binding);
+        this.putBinding(packetClass, packetOpcode, binding);
         return binding;
     }
 
     @Override
-    public <P extends RequestPacket<R>, R extends Packet> FixedTransactionalPacketBinding<P, R> registerTransactional(
+    public synchronized <P extends RequestPacket<R>, R extends Packet> FixedTransactionalPacketBinding<P, R> registerTransactional(
             final Class<P> requestPacketType, final Class<R> responsePacketType, final int opcode) {
         Objects.requireNonNull(requestPacketType, "requestPacketType");
         Objects.requireNonNull(responsePacketType, "responsePacketType");
         this.checkPossibleRegistration(requestPacketType, opcode);
         final SpongeFixedTransactionalPacketBinding<P, R> binding = new SpongeFixedTransactionalPacketBinding<>(
                 opcode, requestPacketType, responsePacketType);
-        this.byType.put(requestPacketType, binding);
-        this.byOpcode.put(opcode, binding);
+        this.putBinding(requestPacketType, opcode, binding);
         return binding;
     }
 
     @Override
-    public <P extends RequestPacket<R>, R extends Packet> TransactionalPacketBinding<P, R> registerTransactional(
+    public synchronized <P extends RequestPacket<R>, R extends Packet> TransactionalPacketBinding<P, R> registerTransactional(
             final Class<P> requestPacketType, final int opcode) {
         Objects.requireNonNull(requestPacketType, "requestPacketType");
         this.checkPossibleRegistration(requestPacketType, opcode);
         final SpongeTransactionalPacketBinding<P, R> binding = new SpongeTransactionalPacketBinding<>(
                 opcode, requestPacketType);
-        this.byType.put(requestPacketType, binding);
-        this.byOpcode.put(opcode, binding);
+        this.putBinding(requestPacketType, opcode, binding);
         return binding;
     }
 
+    private void putBinding(final Class<?> packetClass, final int opcode, final PacketBinding<?> binding) {
+        this.byType.put(packetClass, binding);
+        final Int2ObjectMap<PacketBinding<?>> byOpcode = new Int2ObjectOpenHashMap<>(this.byOpcode);
+        byOpcode.put(opcode, binding);
+        this.byOpcode = Int2ObjectMaps.unmodifiable(byOpcode);
+    }
+
     private void checkPossibleRegistration(final Class<?> packetClass, final int opcode) {
         Objects.requireNonNull(packetClass, "packetClass");
         this.validatePacketClass(packetClass);
@@ -30,7 +30,7 @@
 import org.spongepowered.api.network.channel.packet.Packet;
 import org.spongepowered.api.network.channel.packet.PacketBinding;
 import org.spongepowered.api.network.channel.packet.PacketHandler;
-import org.spongepowered.common.network.channel.ConcurrentMultimap;
+import org.spongepowered.common.network.channel.ConnectionHandlers;
 import org.spongepowered.common.network.channel.SpongeChannel;
 
 import java.util.Collection;
@@ -39,14 +39,14 @@
 @SuppressWarnings({"unchecked", "rawtypes"})
 public final class SpongeHandlerPacketBinding<P extends Packet> extends SpongePacketBinding<P> implements HandlerPacketBinding<P> {
 
-    private final ConcurrentMultimap<Class<?>, PacketHandler<? super P, ?>> handlers = new ConcurrentMultimap<>();
+    private final ConnectionHandlers<PacketHandler<? super P, ?>> handlers = new ConnectionHandlers<>();
 
     SpongeHandlerPacketBinding(final int opcode, final Class<P> packetType) {
         super(opcode, packetType);
     }
 
     public <C extends EngineConnection> Collection<PacketHandler<? super P, ? super C>> getHandlers(final C connection) {
-        return (Collection) SpongeChannel.getResponseHandlers(connection, this.handlers.get());
+        return (Collection) this.handlers.get(connection);
     }
 
     @Override
@@ -61,7 +61,7 @@ public <C extends EngineConnection> PacketBinding<P> addHandler(final Class<C> c
             final PacketHandler<? super P, ? super C> handler) {
         Objects.requireNonNull(connectionType, "connectionType");
         Objects.requireNonNull(handler, "handler");
-        this.handlers.modify(map -> map.put(connectionType, handler));
+        this.handlers.add(connectionType, handler);
         return this;
     }
 
@@ -82,16 +82,14 @@ public <C extends EngineConnection> PacketBinding<P> removeHandler(final Class<C
             final PacketHandler<? super P, ? super C> handler) {
         Objects.requireNonNull(connectionType, "connectionType");
         Objects.requireNonNull(handler, "handler");
-        this.handlers.modify(map -> map.entries()
-                .removeIf(entry -> entry.getKey().isAssignableFrom(connectionType) && entry.getValue() == handler));
+        this.handlers.remove(connectionType, handler);
         return this;
     }
 
     @Override
     public PacketBinding<P> removeHandler(final PacketHandler<? super P, ?> handler) {
         Objects.requireNonNull(handler, "handler");
-        this.handlers.modify(map -> map.entries()
-                .removeIf(entry -> entry.getValue() == handler));
+        this.handlers.remove(handler);
         return this;
     }
 }
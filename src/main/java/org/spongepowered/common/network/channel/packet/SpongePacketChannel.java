@@ -461,7 +461,7 @@ private <P extends RequestPacket<R>, R extends Packet> void handleTransactionRes
     }
 
     private static long packTypeAndValue(final int type, final int value) {
-        return type | value << SpongePacketChannel.TYPE_BITS;
+        return type | (value & 0xFFFFFFFFL) << SpongePacketChannel.TYPE_BITS;
     }
 
     private static int extractType(final long typeAndValue) {
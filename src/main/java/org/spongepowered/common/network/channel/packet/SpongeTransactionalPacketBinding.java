@@ -34,7 +34,7 @@
 import org.spongepowered.api.network.channel.packet.RequestPacketHandler;
 import org.spongepowered.api.network.channel.packet.ResponsePacketHandler;
 import org.spongepowered.api.network.channel.packet.TransactionalPacketBinding;
-import org.spongepowered.common.network.channel.ConcurrentMultimap;
+import org.spongepowered.common.network.channel.ConnectionHandlers;
 import org.spongepowered.common.network.channel.SpongeChannel;
 
 import java.util.Collection;
@@ -47,7 +47,7 @@
         extends SpongePacketBinding<P> implements TransactionalPacketBinding<P, R> {
 
     private final Map<Class<?>, RequestPacketHandler<? super P, ? extends R, ?>> requestHandlers = new HashMap<>();
-    private final ConcurrentMultimap<Class<?>, ResponsePacketHandler<? super P, ? super R, ?>> responseHandlers = new ConcurrentMultimap<>();
+    private final ConnectionHandlers<ResponsePacketHandler<? super P, ? super R, ?>> responseHandlers = new ConnectionHandlers<>();
 
     public SpongeTransactionalPacketBinding(final int opcode, final Class<P> requestPacketType) {
         super(opcode, requestPacketType);
@@ -106,7 +106,7 @@ public <C extends EngineConnection> TransactionalPacketBinding<P, R> addResponse
             final ResponsePacketHandler<? super P, ? super R, ? super C> handler) {
         Objects.requireNonNull(connectionType, "connectionType");
         Objects.requireNonNull(handler, "handler");
-        this.responseHandlers.modify(map -> map.put(connectionType, handler));
+        this.responseHandlers.add(connectionType, handler);
         return this;
     }
 
@@ -123,7 +123,7 @@ public TransactionalPacketBinding<P, R> addResponseHandler(final ResponsePacketH
     }
 
     public <C extends EngineConnection> Collection<ResponsePacketHandler<? super P, ? super R, ? super C>> getResponseHandlers(final C connection) {
-        return (Collection) SpongeChannel.getResponseHandlers(connection, this.responseHandlers.get());
+        return (Collection) this.responseHandlers.get(connection);
     }
 
     @Override
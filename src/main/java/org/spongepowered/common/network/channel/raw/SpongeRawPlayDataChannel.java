@@ -29,7 +29,7 @@
 import org.spongepowered.api.network.channel.ChannelBuf;
 import org.spongepowered.api.network.channel.raw.play.RawPlayDataChannel;
 import org.spongepowered.api.network.channel.raw.play.RawPlayDataHandler;
-import org.spongepowered.common.network.channel.ConcurrentMultimap;
+import org.spongepowered.common.network.channel.ConnectionHandlers;
 import org.spongepowered.common.network.channel.ConnectionUtil;
 import org.spongepowered.common.network.channel.PacketSender;
 import org.spongepowered.common.network.channel.PacketUtil;
@@ -44,7 +44,7 @@
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class SpongeRawPlayDataChannel implements RawPlayDataChannel {
 
-    private final ConcurrentMultimap<Class<?>, RawPlayDataHandler<?>> handlers = new ConcurrentMultimap<>();
+    private final ConnectionHandlers<RawPlayDataHandler<?>> handlers = new ConnectionHandlers<>();
     private final SpongeRawDataChannel parent;
 
     public SpongeRawPlayDataChannel(final SpongeRawDataChannel parent) {
@@ -78,13 +78,13 @@ public <C extends EngineConnection> void addHandler(final EngineConnectionSide<C
     public <C extends EngineConnection> void addHandler(final Class<C> connectionType, final RawPlayDataHandler<? super C> handler) {
         Objects.requireNonNull(connectionType, "connectionType");
         Objects.requireNonNull(handler, "handler");
-        this.handlers.modify(map -> map.put(connectionType, handler));
+        this.handlers.add(connectionType, handler);
     }
 
     @Override
     public void removeHandler(final RawPlayDataHandler<?> handler) {
         Objects.requireNonNull(handler, "handler");
-        this.handlers.modify(map -> map.entries().removeIf(entry -> entry.getValue() == handler));
+        this.handlers.remove(handler);
     }
 
     @Override
@@ -97,7 +97,7 @@ public <C extends EngineConnection> void removeHandler(final EngineConnectionSid
     public <C extends EngineConnection> void removeHandler(final Class<C> connectionType, final RawPlayDataHandler<? super C> handler) {
         Objects.requireNonNull(connectionType, "connectionType");
         Objects.requireNonNull(handler, "handler");
-        this.handlers.modify(map -> map.entries().removeIf(entry -> entry.getKey().isAssignableFrom(connectionType) && entry.getValue() == handler));
+        this.handlers.remove(connectionType, handler);
     }
 
     @Override
@@ -122,7 +122,7 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final C
     }
 
     private <C extends EngineConnection> Collection<RawPlayDataHandler<? super C>> getHandlers(final C connection) {
-        return (Collection) SpongeChannel.getResponseHandlers(connection, this.handlers.get());
+        return (Collection) this.handlers.get(connection);
     }
 
     <C extends EngineConnection> void handlePayload(final C connection, final ChannelBuf payload) {
@@ -24,6 +24,9 @@
  */
 package org.spongepowered.common.network.status;
 
+import com.google.gson.Gson;
+import io.netty.handler.codec.EncoderException;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.protocol.status.ServerStatus;
 import net.minecraft.server.MinecraftServer;
 import org.spongepowered.api.MinecraftVersion;
@@ -36,18 +39,28 @@
 import org.spongepowered.api.network.status.StatusResponse;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.adventure.SpongeAdventure;
+import org.spongepowered.common.bridge.network.ServerStatusResponseBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.util.NetworkUtil;
 
 import javax.annotation.Nullable;
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 
 public final class SpongeStatusResponse {
 
+    // Same limit as FriendlyByteBuf#writeUtf(String)
+    private static final int MAX_ENCODED_LENGTH = 32767;
+
     private SpongeStatusResponse() {
     }
 
     @Nullable
     public static ServerStatus post(MinecraftServer server, StatusClient client) {
+        if (!ShouldFire.CLIENT_PING_SERVER_EVENT) {
+            // Nobody can modify the response, so the shared (and already encoded) status can be sent as is
+            return server.getStatus();
+        }
         return SpongeStatusResponse.call(SpongeStatusResponse.create(server), client);
     }
 
@@ -65,6 +78,9 @@ public static ServerStatus postLegacy(MinecraftServer server, InetSocketAddress
 
     @Nullable
     private static ServerStatus call(ServerStatus response, StatusClient client) {
+        if (!ShouldFire.CLIENT_PING_SERVER_EVENT) {
+            return response;
+        }
         if (!SpongeCommon.postEvent(SpongeEventFactory.createClientPingServerEvent(Cause.of(EventContext.empty(), Sponge.getServer()), client,
             (ClientPingServerEvent.Response) response))) {
             return response;
@@ -104,6 +120,31 @@ private static ServerStatus.Version clone(@Nullable ServerStatus.Version origina
         return original != null ? new ServerStatus.Version(original.getName(), original.getProtocol()) : null;
     }
 
+    /**
+     * Writes the JSON form of the response to the buffer. The encoded bytes are
+     * cached on the response until it is modified, so repeated pings of the
+     * same server status only pay for the serialization once.
+     *
+     * @param response The response to write
+     * @param gson The gson instance to serialize the response with
+     * @param buf The buffer to write to
+     */
+    public static void write(ServerStatus response, Gson gson, FriendlyByteBuf buf) {
+        final ServerStatusResponseBridge bridge = (ServerStatusResponseBridge) response;
+        final int modificationCount = bridge.bridge$getModificationCount();
+        Encoded encoded = bridge.bridge$getEncoded();
+        if (encoded == null || encoded.modificationCount != modificationCount) {
+            encoded = new Encoded(modificationCount, gson.toJson(response).getBytes(StandardCharsets.UTF_8));
+            bridge.bridge$setEncoded(encoded);
+        }
+        if (encoded.bytes.length > SpongeStatusResponse.MAX_ENCODED_LENGTH) {
+            throw new EncoderException("String too big (was " + encoded.bytes.length + " bytes encoded, max "
+                    + SpongeStatusResponse.MAX_ENCODED_LENGTH + ")");
+        }
+        buf.writeVarInt(encoded.bytes.length);
+        buf.writeBytes(encoded.bytes);
+    }
+
     public static String getMotd(ServerStatus response) {
         return SpongeStatusResponse.getFirstLine(SpongeAdventure.legacySection(SpongeAdventure.asAdventure(response.getDescription())));
     }
@@ -116,4 +157,14 @@ private static String getFirstLine(String s) {
         return NetworkUtil.substringBefore(s, '\n');
     }
 
+    public static final class Encoded {
+
+        final int modificationCount;
+        final byte[] bytes;
+
+        Encoded(int modificationCount, byte[] bytes) {
+            this.modificationCount = modificationCount;
+            this.bytes = bytes;
+        }
+    }
 }
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.registry;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.registry.DefaultedRegistryReference;
 import org.spongepowered.api.registry.Registry;
 import org.spongepowered.api.registry.RegistryHolder;
@@ -36,6 +37,7 @@
 public final class SpongeDefaultedRegistryReference<T> extends SpongeRegistryReference<T> implements DefaultedRegistryReference<T> {
 
     private final Supplier<RegistryHolder> defaultHolder;
+    @Nullable private volatile Resolved<T> resolved;
 
     public SpongeDefaultedRegistryReference(final RegistryKey<T> key, final Supplier<RegistryHolder> defaultHolder) {
         super(key);
@@ -45,7 +47,18 @@ public SpongeDefaultedRegistryReference(final RegistryKey<T> key, final Supplier
 
     @Override
     public T get() {
-        return this.defaultHolder.get().registry(this.registry()).value(this.location());
+        final RegistryHolder holder = this.defaultHolder.get();
+        final Resolved<T> resolved = this.resolved;
+        if (resolved != null && resolved.holder == holder) {
+            return resolved.value;
+        }
+        final Registry<T> registry = holder.registry(this.registry());
+        final T value = registry.value(this.location());
+        // Values of dynamic registries can be replaced, so only static registries are remembered
+        if (!registry.isDynamic()) {
+            this.resolved = new Resolved<>(holder, value);
+        }
+        return value;
     }
 
     @Override
@@ -58,4 +71,15 @@ public Optional<T> find() {
     public Supplier<RegistryHolder> defaultHolder() {
         return this.defaultHolder;
     }
+
+    private static final class Resolved<T> {
+
+        final RegistryHolder holder;
+        final T value;
+
+        Resolved(final RegistryHolder holder, final T value) {
+            this.holder = holder;
+            this.value = value;
+        }
+    }
 }
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.registry;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.registry.DefaultedRegistryType;
 import org.spongepowered.api.registry.Registry;
@@ -36,6 +37,7 @@
 public final class SpongeDefaultedRegistryType<T> extends SpongeRegistryType<T> implements DefaultedRegistryType<T> {
 
     private final Supplier<RegistryHolder> defaultHolder;
+    @Nullable private volatile Resolved<T> resolved;
 
     public SpongeDefaultedRegistryType(final ResourceKey root, final ResourceKey location, final Supplier<RegistryHolder> defaultHolder) {
         super(root, location);
@@ -44,7 +46,14 @@ public SpongeDefaultedRegistryType(final ResourceKey root, final ResourceKey loc
 
     @Override
     public Registry<T> get() {
-        return this.defaultHolder.get().registry(this);
+        final RegistryHolder holder = this.defaultHolder.get();
+        final Resolved<T> resolved = this.resolved;
+        if (resolved != null && resolved.holder == holder) {
+            return resolved.registry;
+        }
+        final Registry<T> registry = holder.registry(this);
+        this.resolved = new Resolved<>(holder, registry);
+        return registry;
     }
 
     @Override
@@ -56,4 +65,15 @@ public Optional<Registry<T>> find() {
     public Supplier<RegistryHolder> defaultHolder() {
         return this.defaultHolder;
     }
+
+    private static final class Resolved<T> {
+
+        final RegistryHolder holder;
+        final Registry<T> registry;
+
+        Resolved(final RegistryHolder holder, final Registry<T> registry) {
+            this.holder = holder;
+            this.registry = registry;
+        }
+    }
 }
@@ -166,6 +166,16 @@ public void generateReport(Audience channel) {
         TimingsExport.requestingReport.add(channel);
     }
 
+    /**
+     * Requests a report to be written to the server's timings directory
+     * instead of being uploaded, for servers without outbound access.
+     *
+     * @param channel The audience to notify of the written files
+     */
+    public static void generateLocalReport(Audience channel) {
+        TimingsExport.requestingLocalReport.add(channel);
+    }
+
     public static long getCost() {
         return TimingsExport.getCost();
     }
@@ -29,6 +29,7 @@
 import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -60,6 +61,11 @@
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -71,48 +77,64 @@ class TimingsExport extends Thread {
     private static final Joiner RUNTIME_FLAG_JOINER = Joiner.on(" ");
     private static final Joiner CONFIG_PATH_JOINER = Joiner.on(".");
 
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    private static final String TEMPLATE_DATA_PLACEHOLDER = "/*TIMINGS_DATA*/null";
+
     private final TimingsReportListener listeners;
     private final JsonObject out;
     private final TimingHistory[] history;
+    private final boolean local;
     private static long lastReport = 0;
     final static List<Audience> requestingReport = Lists.newArrayList();
+    final static List<Audience> requestingLocalReport = Lists.newArrayList();
 
-    TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history) {
-        super("Timings paste thread");
+    TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history, boolean local) {
+        super(local ? "Timings export thread" : "Timings paste thread");
         this.listeners = listeners;
         this.out = out;
         this.history = history;
+        this.local = local;
     }
 
     private static String getServerName() {
         return SpongeCommon.getPlugin().getMetadata().getName() + " " + SpongeCommon.getPlugin().getMetadata().getVersion();
     }
 
-    /**
-     * Builds an XML report of the timings to be uploaded for parsing.
-     */
     static void reportTimings() {
-        if (TimingsExport.requestingReport.isEmpty()) {
-            return;
+        if (!TimingsExport.requestingReport.isEmpty()) {
+            TimingsExport.reportTimings(TimingsExport.requestingReport, false);
         }
-        TimingsReportListener listeners = new TimingsReportListener(TimingsExport.requestingReport);
+        if (!TimingsExport.requestingLocalReport.isEmpty()) {
+            TimingsExport.reportTimings(TimingsExport.requestingLocalReport, true);
+        }
+    }
+
+    /**
+     * Builds a JSON report of the timings, either to be uploaded for parsing
+     * or to be written to disk alongside a self contained HTML viewer.
+     */
+    private static void reportTimings(List<Audience> requesting, boolean local) {
+        TimingsReportListener listeners = new TimingsReportListener(requesting);
 
-        TimingsExport.requestingReport.clear();
+        requesting.clear();
         long now = System.currentTimeMillis();
-        final long lastReportDiff = now - TimingsExport.lastReport;
-        if (lastReportDiff < 60000) {
-            listeners.send(Component.text("Please wait at least 1 minute in between Timings reports. (" + (int)((60000 - lastReportDiff) / 1000) + " seconds)", NamedTextColor.RED));
-            listeners.done();
-            return;
-        }
-        final long lastStartDiff = now - TimingsManager.timingStart;
-        if (lastStartDiff < 180000) {
-            listeners.send(Component.text("Please wait at least 3 minutes before generating a Timings report. Unlike Timings v1, v2 benefits from longer timings and is not as useful with short timings. (" + (int)((180000 - lastStartDiff) / 1000) + " seconds)", NamedTextColor.RED));
-            listeners.done();
-            return;
+        // Local exports don't touch the paste service, and are most useful straight after a lag spike
+        if (!local) {
+            final long lastReportDiff = now - TimingsExport.lastReport;
+            if (lastReportDiff < 60000) {
+                listeners.send(Component.text("Please wait at least 1 minute in between Timings reports. (" + (int)((60000 - lastReportDiff) / 1000) + " seconds)", NamedTextColor.RED));
+                listeners.done();
+                return;
+            }
+            final long lastStartDiff = now - TimingsManager.timingStart;
+            if (lastStartDiff < 180000) {
+                listeners.send(Component.text("Please wait at least 3 minutes before generating a Timings report. Unlike Timings v1, v2 benefits from longer timings and is not as useful with short timings. (" + (int)((180000 - lastStartDiff) / 1000) + " seconds)", NamedTextColor.RED));
+                listeners.done();
+                return;
+            }
+            TimingsExport.lastReport = now;
         }
         listeners.send(Component.text("Preparing Timings Report...", NamedTextColor.GREEN));
-        TimingsExport.lastReport = now;
 
         Platform platform = SpongeCommon.getGame().getPlatform();
         JsonObjectBuilder builder = JSONUtil.objectBuilder()
@@ -210,7 +232,7 @@ static void reportTimings() {
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", TimingsExport.serializeConfigNode(SpongeConfigs.getCommon().getNode())));
 
-        new TimingsExport(listeners, builder.build(), history).start();
+        new TimingsExport(listeners, builder.build(), history, local).start();
     }
 
     static long getCost() {
@@ -293,6 +315,11 @@ public synchronized void start() {
     public void run() {
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
 
+        if (this.local) {
+            this.writeLocal();
+            return;
+        }
+
         String response = null;
         String timingsURL = null;
         try {
@@ -349,6 +376,38 @@ public void run() {
         }
     }
 
+    private void writeLocal() {
+        Path htmlFile = null;
+        try {
+            final Path directory = SpongeCommon.getGameDirectory().resolve("timings");
+            final String name = "timings-" + TimingsExport.FILE_DATE_FORMAT.format(LocalDateTime.now());
+            final String json = JSONUtil.toString(this.out);
+            Files.createDirectories(directory);
+            final Path jsonFile = directory.resolve(name + ".json");
+            Files.write(jsonFile, json.getBytes(StandardCharsets.UTF_8));
+
+            final String template;
+            try (InputStream in = TimingsExport.class.getResourceAsStream("timings-report.html")) {
+                if (in == null) {
+                    throw new IOException("Missing timings report template");
+                }
+                template = new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+            }
+            // The report is embedded in a script tag, which must not be closed early
+            final String html = template.replace(TimingsExport.TEMPLATE_DATA_PLACEHOLDER, json.replace("</", "<\\/"));
+            htmlFile = directory.resolve(name + ".html");
+            Files.write(htmlFile, html.getBytes(StandardCharsets.UTF_8));
+
+            this.listeners.send(Component.text("Timings report written to " + jsonFile.toAbsolutePath(), NamedTextColor.GREEN));
+            this.listeners.send(Component.text("View Timings Report: " + htmlFile.toAbsolutePath(), NamedTextColor.GREEN));
+        } catch (IOException ex) {
+            this.listeners.send(Component.text("Error writing timings, check your logs for more information", NamedTextColor.RED));
+            SpongeCommon.getLogger().error("Could not write timings", ex);
+        } finally {
+            this.listeners.done(htmlFile == null ? null : htmlFile.toAbsolutePath().toString());
+        }
+    }
+
     private String getResponse(HttpURLConnection con) throws IOException {
         InputStream is = null;
         try {
@@ -37,7 +37,9 @@
 import org.spongepowered.plugin.PluginContainer;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -60,6 +62,8 @@ public abstract class SpongeScheduler implements Scheduler {
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, SpongeScheduledTask> taskMap = new ConcurrentHashMap<>();
     private long sequenceNumber = 0L;
+    // The task to continue at after the task budget ran out
+    @Nullable private UUID budgetResumeTask;
 
     SpongeScheduler(String tag) {
         this.tag = tag;
@@ -172,7 +176,12 @@ final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            final long taskBudget = this.getTaskBudget();
+            if (taskBudget == Long.MAX_VALUE) {
+                this.taskMap.values().forEach(this::processTask);
+            } else {
+                this.processTasksWithinBudget(taskBudget);
+            }
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -180,6 +189,48 @@ final void runTick() {
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    /**
+     * Processes tasks until the budget is spent. Tasks that were not reached
+     * are processed first on the next tick, so that every task gets its turn.
+     *
+     * @param taskBudget The time in nanoseconds tasks may take
+     */
+    private void processTasksWithinBudget(final long taskBudget) {
+        final List<SpongeScheduledTask> tasks = new ArrayList<>(this.taskMap.values());
+        final int size = tasks.size();
+        if (size == 0) {
+            return;
+        }
+        int offset = 0;
+        if (this.budgetResumeTask != null) {
+            // Tasks may have been added or removed since, so find the task itself rather than its position
+            for (int i = 0; i < size; i++) {
+                if (tasks.get(i).getUniqueId().equals(this.budgetResumeTask)) {
+                    offset = i;
+                    break;
+                }
+            }
+        }
+        final long start = System.nanoTime();
+        int processed = 0;
+        // Always process at least one task to guarantee progress
+        do {
+            this.processTask(tasks.get((offset + processed) % size));
+            processed++;
+        } while (processed < size && System.nanoTime() - start < taskBudget);
+        this.budgetResumeTask = processed < size ? tasks.get((offset + processed) % size).getUniqueId() : null;
+    }
+
+    /**
+     * Gets the time in nanoseconds the tasks of a single tick may take before
+     * the remaining tasks are deferred to the next tick.
+     *
+     * @return The task budget, {@link Long#MAX_VALUE} for no limit
+     */
+    protected long getTaskBudget() {
+        return Long.MAX_VALUE;
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
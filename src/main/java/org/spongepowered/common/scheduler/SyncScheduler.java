@@ -28,6 +28,7 @@ public abstract class SyncScheduler extends SpongeScheduler {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
+    private long taskBudget = Long.MAX_VALUE;
 
     SyncScheduler(String tag) {
         super(tag);
@@ -41,6 +42,20 @@ public void tick() {
         this.runTick();
     }
 
+    /**
+     * Sets the time in nanoseconds the tasks of a single tick may take.
+     *
+     * @param taskBudget The task budget, {@link Long#MAX_VALUE} for no limit
+     */
+    public void setTaskBudget(final long taskBudget) {
+        this.taskBudget = taskBudget;
+    }
+
+    @Override
+    protected long getTaskBudget() {
+        return this.taskBudget;
+    }
+
     @Override
     protected long getTimestamp(SpongeScheduledTask task) {
         // The task is based on minecraft ticks, so we generate
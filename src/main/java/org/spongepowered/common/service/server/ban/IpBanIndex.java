@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.ban;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.util.IpTrie;
+
+import java.net.InetAddress;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * The IP bans of a ban list, indexed by the network they cover so CIDR range
+ * bans can be matched without scanning every ban. The index is rebuilt once
+ * the modification count of the list differs from when it was built.
+ *
+ * @param <E> The type of the bans
+ */
+final class IpBanIndex<E> {
+
+    private final IpTrie<E> bans = new IpTrie<>();
+    private final Function<E, InetAddress> address;
+    private final ToIntFunction<E> prefixLength;
+    private int modificationCount = -1;
+
+    IpBanIndex(final Function<E, InetAddress> address, final ToIntFunction<E> prefixLength) {
+        this.address = address;
+        this.prefixLength = prefixLength;
+    }
+
+    void update(final int modificationCount, final Collection<E> bans) {
+        if (this.modificationCount == modificationCount) {
+            return;
+        }
+        this.bans.clear();
+        for (final E ban : bans) {
+            this.bans.put(this.address.apply(ban).getAddress(), this.prefixLength.applyAsInt(ban), ban);
+        }
+        this.modificationCount = modificationCount;
+    }
+
+    /**
+     * Gets the most specific ban covering the address, which may be the ban
+     * of a range containing it.
+     *
+     * @param address The address
+     * @return The ban, if the address is banned
+     */
+    @Nullable E getCovering(final InetAddress address) {
+        return this.bans.get(address);
+    }
+
+    /**
+     * Gets the ban of exactly the address, ignoring ranges containing it.
+     *
+     * @param address The address
+     * @return The ban, if the address itself is banned
+     */
+    @Nullable E getExact(final InetAddress address) {
+        final byte[] bytes = address.getAddress();
+        return this.bans.getExact(bytes, bytes.length * 8);
+    }
+}
@@ -25,6 +25,7 @@
 package org.spongepowered.common.service.server.ban;
 
 import com.google.inject.Singleton;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.SpongeEventFactory;
@@ -34,13 +35,17 @@
 import org.spongepowered.api.service.ban.BanTypes;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.players.IpBanListAccessor;
+import org.spongepowered.common.accessor.server.players.StoredUserEntryAccessor;
 import org.spongepowered.common.accessor.server.players.StoredUserListAccessor;
+import org.spongepowered.common.bridge.server.management.IPBanEntryBridge;
+import org.spongepowered.common.bridge.server.management.StoredUserListBridge;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.profile.SpongeGameProfile;
 import org.spongepowered.common.util.UserListUtil;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
@@ -63,6 +68,9 @@
 @Singleton
 public final class SpongeBanService implements BanService {
 
+    private final IpBanIndex<IpBanListEntry> ipBanIndex = new IpBanIndex<>(ban -> ((IPBanEntryBridge) ban).bridge$getAddress(),
+            ban -> ((IPBanEntryBridge) ban).bridge$getPrefixLength());
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public Collection<Ban> getBans() {
@@ -97,13 +105,9 @@ public Optional<Ban.Profile> getBanFor(final GameProfile profile) {
         return Optional.ofNullable((Ban.Profile) accessor.accessor$map().get(accessor.invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile))));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Optional<Ban.IP> getBanFor(final InetAddress address) {
-        final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
-
-        accessor.invoker$removeExpired();
-        return Optional.ofNullable((Ban.IP) accessor.accessor$map().get(accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0)))));
+        return Optional.ofNullable((Ban.IP) this.findIpBan(address));
     }
 
     @SuppressWarnings("unchecked")
@@ -116,13 +120,9 @@ public boolean isBanned(final GameProfile profile) {
         return accessor.accessor$map().containsKey(accessor.invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile)));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public boolean isBanned(final InetAddress address) {
-        final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
-
-        accessor.invoker$removeExpired();
-        return accessor.accessor$map().containsKey(accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0))));
+        return this.findIpBan(address) != null;
     }
 
     @SuppressWarnings("unchecked")
@@ -138,10 +138,8 @@ public boolean pardon(final GameProfile profile) {
     @SuppressWarnings("unchecked")
     @Override
     public boolean pardon(final InetAddress address) {
-        final Optional<Ban.IP> ban = this.getBanFor(address);
-        final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
-        accessor.invoker$removeExpired();
-        return ban.isPresent() && this.removeBan(ban.get());
+        final @Nullable IpBanListEntry ban = this.findExactIpBan(address);
+        return ban != null && this.removeBan((Ban) ban);
     }
 
     @Override
@@ -158,8 +156,7 @@ public boolean removeBan(final Ban ban) {
         } else if (ban.getType().equals(BanTypes.IP.get())) {
             Sponge.getEventManager().post(SpongeEventFactory.createPardonIpEvent(PhaseTracker.getCauseStackManager().getCurrentCause(), (Ban.IP) ban));
 
-            final InetSocketAddress inetSocketAddress = new InetSocketAddress(((Ban.IP) ban).getAddress(), 0);
-            UserListUtil.removeEntry(this.getIPBanList(), ((IpBanListAccessor) this.getIPBanList()).invoker$getIpFromAddress(inetSocketAddress));
+            UserListUtil.removeEntry(this.getIPBanList(), this.getIpBanKey((Ban.IP) ban));
             return true;
         }
         throw new IllegalArgumentException(String.format("Ban %s had unrecognized BanType %s!", ban, ban.getType()));
@@ -188,16 +185,64 @@ public Optional<? extends Ban> addBan(final Ban ban) {
         return prevBan;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public boolean hasBan(final Ban ban) {
         if (ban.getType().equals(BanTypes.PROFILE.get())) {
             return this.isBanned(((Ban.Profile) ban).getProfile());
         } else if (ban.getType().equals(BanTypes.IP.get())) {
-            return this.isBanned(((Ban.IP) ban).getAddress());
+            // The ban itself has to exist, not just a range ban covering its address
+            final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
+            accessor.invoker$removeExpired();
+            return accessor.accessor$map().containsKey(this.getIpBanKey((Ban.IP) ban));
         }
         throw new IllegalArgumentException(String.format("Ban %s had unrecognized BanType %s!", ban, ban.getType()));
     }
 
+    @SuppressWarnings("unchecked")
+    private synchronized @Nullable IpBanListEntry findIpBan(final InetAddress address) {
+        final IpBanList list = this.getIPBanList();
+        this.updateIpBanIndex(list);
+        @Nullable IpBanListEntry ban = this.ipBanIndex.getCovering(address);
+        if (ban != null && ((Ban) ban).getExpirationDate().filter(Instant.now()::isAfter).isPresent()) {
+            // Expired bans are only purged once one of them matches, rather than on every lookup
+            ((StoredUserListAccessor<String, IpBanListEntry>) list).invoker$removeExpired();
+            this.updateIpBanIndex(list);
+            ban = this.ipBanIndex.getCovering(address);
+        }
+        return ban;
+    }
+
+    /**
+     * Finds the ban of exactly the address, ignoring range bans covering it.
+     * Pardoning an address only lifts the ban of that address.
+     *
+     * @param address The address
+     * @return The ban, if the address itself is banned
+     */
+    @SuppressWarnings("unchecked")
+    synchronized @Nullable IpBanListEntry findExactIpBan(final InetAddress address) {
+        final IpBanList list = this.getIPBanList();
+        ((StoredUserListAccessor<String, IpBanListEntry>) list).invoker$removeExpired();
+        this.updateIpBanIndex(list);
+        return this.ipBanIndex.getExact(address);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateIpBanIndex(final IpBanList list) {
+        // Bans may also be changed by vanilla commands or reloaded from disk, which all count as modifications
+        this.ipBanIndex.update(((StoredUserListBridge) list).bridge$getModificationCount(),
+                ((StoredUserListAccessor<String, IpBanListEntry>) list).accessor$map().values());
+    }
+
+    @SuppressWarnings("unchecked")
+    private String getIpBanKey(final Ban.IP ban) {
+        if (ban instanceof StoredUserEntry) {
+            return ((StoredUserEntryAccessor<String>) ban).accessor$user();
+        }
+        return ((IpBanListAccessor) this.getIPBanList()).invoker$getIpFromAddress(new InetSocketAddress(ban.getAddress(), 0));
+    }
+
     private UserBanList getUserBanList() {
         return SpongeCommon.getServer().getPlayerList().getBans();
     }
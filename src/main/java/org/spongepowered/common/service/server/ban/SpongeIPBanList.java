@@ -29,6 +29,7 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.service.ban.BanService;
 import org.spongepowered.api.service.ban.Ban;
+import org.spongepowered.common.bridge.server.management.IPBanEntryBridge;
 import org.spongepowered.common.util.NetworkUtil;
 
 import java.io.File;
@@ -52,17 +53,16 @@ public SpongeIPBanList(final File file) {
         super(file);
     }
 
+    // Like the vanilla list, entries are only looked up by the exact address. Range bans
+    // covering an address are matched by the ban service when players log in, as
+    // /pardon-ip could otherwise find a range ban that it cannot remove.
     @Override
     protected boolean contains(final String entry) {
         if (entry.equals(LOCAL_ADDRESS)) { // Check for single player
             return false;
         }
 
-        try {
-            return Sponge.getServer().getServiceProvider().banService().isBanned(InetAddress.getByName(entry));
-        } catch (final UnknownHostException e) {
-            throw new IllegalArgumentException("Error parsing Ban IP address!", e);
-        }
+        return SpongeIPBanList.getExactBan(entry) != null;
     }
 
     @Override
@@ -71,11 +71,28 @@ protected boolean contains(final String entry) {
             return null;
         }
 
+        return (IpBanListEntry) SpongeIPBanList.getExactBan(obj);
+    }
+
+    private static @Nullable Ban.IP getExactBan(final String entry) {
+        final InetAddress address;
         try {
-            return (IpBanListEntry) Sponge.getServer().getServiceProvider().banService().getBanFor(InetAddress.getByName(obj)).orElse(null);
+            address = InetAddress.getByName(entry);
         } catch (final UnknownHostException e) {
             throw new IllegalArgumentException("Error parsing Ban IP address!", e);
         }
+        final BanService banService = Sponge.getServer().getServiceProvider().banService();
+        if (banService instanceof SpongeBanService) {
+            return (Ban.IP) ((SpongeBanService) banService).findExactIpBan(address);
+        }
+        // Other ban services only look up the bans covering an address
+        final String key = NetworkUtil.getHostString(new InetSocketAddress(address, 0));
+        for (final Ban.IP ban : banService.getIpBans()) {
+            if (SpongeIPBanList.getUserListEntry(ban).equals(key)) {
+                return ban;
+            }
+        }
+        return null;
     }
 
     @Override
@@ -95,11 +112,19 @@ public void remove(final String entry) {
     public String[] getUserList() {
         final List<String> ips = new ArrayList<>();
         for (final Ban.IP ban : Sponge.getServer().getServiceProvider().banService().getIpBans()) {
-            ips.add(this.getIpFromAddress(new InetSocketAddress(ban.getAddress(), 0)));
+            ips.add(SpongeIPBanList.getUserListEntry(ban));
         }
         return ips.toArray(new String[0]);
     }
 
+    static String getUserListEntry(final Ban.IP ban) {
+        // Range bans are listed with their prefix length
+        if (ban instanceof IPBanEntryBridge) {
+            return ((IPBanEntryBridge) ban).bridge$getKey();
+        }
+        return NetworkUtil.getHostString(new InetSocketAddress(ban.getAddress(), 0));
+    }
+
     @Override
     public void add(final IpBanListEntry entry) {
         Sponge.getServer().getServiceProvider().banService().addBan((Ban) entry);
@@ -38,6 +38,7 @@
 import org.spongepowered.common.accessor.world.level.storage.PlayerDataStorageAccessor;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.profile.SpongeGameProfile;
+import org.spongepowered.common.util.PrefixIndex;
 
 import java.io.IOException;
 import java.nio.file.FileSystems;
@@ -49,10 +50,12 @@
 import java.nio.file.WatchService;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
@@ -65,6 +68,11 @@ public final class ServerUserProvider {
     private final Set<UUID> knownUUIDs = new HashSet<>();
     private final Cache<UUID, User> userCache;
 
+    // Names of the known users, kept in step with knownUUIDs so that
+    // completions don't have to filter the whole profile cache.
+    private final PrefixIndex knownNames = new PrefixIndex();
+    private final Map<UUID, String> knownNamesByUUID = new ConcurrentHashMap<>();
+
     private final Map<String, MutableWatchEvent> watcherUpdateMap = new HashMap<>();
 
     @Nullable private WatchService filesystemWatchService = null;
@@ -123,6 +131,8 @@ void refreshFilesystemProfiles() {
             this.watchKey.reset();
         }
         this.knownUUIDs.clear();
+        this.knownNames.clear();
+        this.knownNamesByUUID.clear();
         this.userCache.invalidateAll();
 
         // Add all known profiles from the data files
@@ -145,6 +155,7 @@ void refreshFilesystemProfiles() {
             }
 
             this.knownUUIDs.add(uuid);
+            this.indexKnownName(uuid);
         }
     }
 
@@ -195,7 +206,9 @@ User getOrCreateUser(final GameProfile profile, final boolean force) {
         this.pollFilesystemWatcher();
         final User user = new SpongeUser(resolvedProfile);
         this.userCache.put(profile.getUniqueId(), user);
-        this.knownUUIDs.add(profile.getUniqueId());
+        if (this.knownUUIDs.add(profile.getUniqueId()) && resolvedProfile.getName() != null) {
+            this.updateKnownName(profile.getUniqueId(), resolvedProfile.getName());
+        }
         return user;
     }
 
@@ -203,6 +216,7 @@ boolean deleteUser(final UUID uuid) {
         if (this.deleteStoredPlayerData(uuid)) {
             this.userCache.invalidate(uuid);
             this.knownUUIDs.remove(uuid);
+            this.unindexKnownName(uuid);
             return true;
         }
         return false;
@@ -213,6 +227,25 @@ Stream<GameProfile> matchKnownProfiles(final String lowercaseName) {
                 .filter(gameProfile -> this.knownUUIDs.contains(gameProfile.getUniqueId()));
     }
 
+    List<String> completeKnownNames(final String prefix, final int limit) {
+        // The known users are only updated on the main thread, the index itself can be read from anywhere
+        if (this.server.isSameThread()) {
+            this.pollFilesystemWatcher();
+        }
+        return this.knownNames.complete(prefix, limit);
+    }
+
+    void onProfileCached(final UUID uuid, final String name) {
+        // Profiles may be looked up off the main thread
+        if (!this.server.isSameThread()) {
+            this.server.execute(() -> this.onProfileCached(uuid, name));
+            return;
+        }
+        if (this.knownUUIDs.contains(uuid)) {
+            this.updateKnownName(uuid, name);
+        }
+    }
+
     Stream<GameProfile> streamAll() {
         final GameProfileCache cache = ((Server) this.server).getGameProfileManager().getCache();
         return this.knownUUIDs.stream().map(x -> cache.getById(x).orElseGet(() -> GameProfile.of(x)));
@@ -277,9 +310,12 @@ private void pollFilesystemWatcher() {
 
                             // It will only be create or delete here.
                             if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-                                this.knownUUIDs.add(uuid);
+                                if (this.knownUUIDs.add(uuid)) {
+                                    this.indexKnownName(uuid);
+                                }
                             } else {
                                 this.knownUUIDs.remove(uuid);
+                                this.unindexKnownName(uuid);
                                 // We don't do this, in case we were caught at a bad time.
                                 // Everything else should handle it for us, however.
                                 // this.userCache.invalidate(uuid);
@@ -293,6 +329,32 @@ private void pollFilesystemWatcher() {
         }
     }
 
+    private void indexKnownName(final UUID uuid) {
+        final com.mojang.authlib.GameProfile gameProfile = this.server.getProfileCache().get(uuid);
+        if (gameProfile != null && gameProfile.getName() != null) {
+            this.updateKnownName(uuid, gameProfile.getName());
+        }
+    }
+
+    private void updateKnownName(final UUID uuid, final String name) {
+        // The index counts names, as a name can be shared by several known users
+        final String previous = this.knownNamesByUUID.put(uuid, name);
+        if (name.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            this.knownNames.remove(previous);
+        }
+        this.knownNames.add(name);
+    }
+
+    private void unindexKnownName(final UUID uuid) {
+        final String previous = this.knownNamesByUUID.remove(uuid);
+        if (previous != null) {
+            this.knownNames.remove(previous);
+        }
+    }
+
     private PlayerDataStorage getSaveHandler() {
         return (PlayerDataStorage) ((PlayerListAccessor) this.server.getPlayerList()).accessor$playerIo();
     }
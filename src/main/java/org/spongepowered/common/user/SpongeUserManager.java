@@ -34,6 +34,7 @@
 import org.spongepowered.common.profile.SpongeGameProfile;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
@@ -107,6 +108,22 @@ public Stream<GameProfile> streamOfMatches(final String lastKnownName) {
         return this.serverUserProvider.matchKnownProfiles(checkNotNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT));
     }
 
+    /**
+     * Gets the names of known users that start with the given prefix, in
+     * sorted order.
+     *
+     * @param prefix The prefix, case insensitive
+     * @param limit The maximum number of names to return
+     * @return The names
+     */
+    public List<String> completeNames(final String prefix, final int limit) {
+        return this.serverUserProvider.completeKnownNames(checkNotNull(prefix, "prefix"), limit);
+    }
+
+    public void onProfileCached(final UUID uniqueId, final String name) {
+        this.serverUserProvider.onProfileCached(uniqueId, name);
+    }
+
     private GameProfile ensureNonEmptyUUID(final GameProfile profile) {
         if (profile.getUniqueId().equals(SpongeGameProfile.EMPTY_UUID)) {
             final String name = profile.getName().orElse(null);
@@ -62,7 +62,7 @@ public boolean apply(final InetAddress input) {
             }
         }
         for (byte i = 0; i < overlap; ++i) {
-            if (((checkAddr[completeSegments + 1] >> (7 - i)) & 0x1) != ((address[completeSegments + 1] >> (7 - i)) & 0x1)) {
+            if (((checkAddr[completeSegments] >> (7 - i)) & 0x1) != ((address[completeSegments] >> (7 - i)) & 0x1)) {
                 return false;
             }
         }
@@ -70,25 +70,32 @@ public boolean apply(final InetAddress input) {
         return true;
     }
 
+    public InetAddress getAddress() {
+        return this.addr;
+    }
+
+    public int getPrefixLength() {
+        return this.prefixLen;
+    }
+
     public static IpSet fromAddrPrefix(final InetAddress address, final int prefixLen) {
         IpSet.validatePrefixLength(checkNotNull(address, "address"), checkNotNull(prefixLen, "prefixLen"));
         return new IpSet(address, prefixLen);
     }
 
     /**
+     * Parses a network in CIDR notation, such as {@code 10.0.0.0/8}. An
+     * address without a prefix length is a network of that single address.
      *
-     * @param spec
-     * @return
+     * @param spec The network in CIDR notation
+     * @return The network
      */
     public static IpSet fromCidr(final String spec) {
         final String addrString;
-        final int prefixLen;
         final int slashIndex = checkNotNull(spec, "spec").lastIndexOf("/");
         if (slashIndex == -1) {
-            prefixLen = 32;
             addrString = spec;
         } else {
-            prefixLen = Integer.parseInt(spec.substring(slashIndex + 1));
             addrString = spec.substring(0, slashIndex);
         }
 
@@ -99,6 +106,12 @@ public static IpSet fromCidr(final String spec) {
             throw new IllegalArgumentException(addrString + " does not contain a valid IP address");
         }
 
+        final int prefixLen;
+        try {
+            prefixLen = slashIndex == -1 ? IpSet.getMaxPrefixLength(addr) : Integer.parseInt(spec.substring(slashIndex + 1));
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(spec + " does not contain a valid prefix length");
+        }
         return IpSet.fromAddrPrefix(addr, prefixLen);
     }
 
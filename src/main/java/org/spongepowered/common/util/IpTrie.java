@@ -0,0 +1,320 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.net.InetAddress;
+
+/**
+ * A path compressed binary trie mapping IPv4 and IPv6 networks to values.
+ * Looking up an address walks at most one node per bit of the address and
+ * returns the value of the most specific network containing it.
+ *
+ * <p>This class is not thread safe.</p>
+ *
+ * @param <V> The type of the values
+ */
+public final class IpTrie<V> {
+
+    private final Node<V> v4Root = new Node<>(new byte[4], 0, null);
+    private final Node<V> v6Root = new Node<>(new byte[16], 0, null);
+    private int size;
+
+    /**
+     * Associates a value with a network, replacing the previous value of the
+     * exact same network.
+     *
+     * @param network The network
+     * @param value The value
+     * @return The previous value of the network, if any
+     */
+    public @Nullable V put(final IpSet network, final V value) {
+        return this.put(network.getAddress().getAddress(), network.getPrefixLength(), value);
+    }
+
+    /**
+     * Associates a value with a network, replacing the previous value of the
+     * exact same network.
+     *
+     * @param address The address of the network, 4 or 16 bytes long
+     * @param prefixLength The number of leading bits of the address forming the network
+     * @param value The value
+     * @return The previous value of the network, if any
+     */
+    public @Nullable V put(final byte[] address, final int prefixLength, final V value) {
+        final Node<V> root = this.root(address);
+        IpTrie.checkPrefixLength(address, prefixLength);
+        final byte[] key = IpTrie.mask(address, prefixLength);
+
+        Node<V> parent = root;
+        while (parent.prefixLength < prefixLength) {
+            final int side = IpTrie.bit(key, parent.prefixLength);
+            final @Nullable Node<V> child = parent.children[side];
+            if (child == null) {
+                parent.children[side] = new Node<>(key, prefixLength, value);
+                this.size++;
+                return null;
+            }
+            final int common = IpTrie.commonPrefixLength(key, child.key, parent.prefixLength, Math.min(prefixLength, child.prefixLength));
+            if (common == child.prefixLength) {
+                parent = child;
+                continue;
+            }
+            final Node<V> inserted;
+            if (common == prefixLength) {
+                // The new network contains the child
+                inserted = new Node<>(key, prefixLength, value);
+            } else {
+                // Both only share a part of their prefix, split them under a new node
+                inserted = new Node<>(IpTrie.mask(key, common), common, null);
+                inserted.children[IpTrie.bit(key, common)] = new Node<>(key, prefixLength, value);
+            }
+            inserted.children[IpTrie.bit(child.key, common)] = child;
+            parent.children[side] = inserted;
+            this.size++;
+            return null;
+        }
+        final @Nullable V previous = parent.value;
+        parent.value = value;
+        if (previous == null) {
+            this.size++;
+        }
+        return previous;
+    }
+
+    /**
+     * Removes the value of the exact given network.
+     *
+     * @param network The network
+     * @return The removed value, if any
+     */
+    public @Nullable V remove(final IpSet network) {
+        return this.remove(network.getAddress().getAddress(), network.getPrefixLength());
+    }
+
+    /**
+     * Removes the value of the exact given network.
+     *
+     * @param address The address of the network, 4 or 16 bytes long
+     * @param prefixLength The number of leading bits of the address forming the network
+     * @return The removed value, if any
+     */
+    public @Nullable V remove(final byte[] address, final int prefixLength) {
+        final Node<V> root = this.root(address);
+        IpTrie.checkPrefixLength(address, prefixLength);
+
+        @Nullable Node<V> grandParent = null;
+        Node<V> parent = root;
+        Node<V> node = root;
+        while (node.prefixLength < prefixLength) {
+            final @Nullable Node<V> child = node.children[IpTrie.bit(address, node.prefixLength)];
+            if (child == null || child.prefixLength > prefixLength
+                || IpTrie.commonPrefixLength(address, child.key, node.prefixLength, child.prefixLength) != child.prefixLength) {
+                return null;
+            }
+            grandParent = parent;
+            parent = node;
+            node = child;
+        }
+        final @Nullable V previous = node.value;
+        if (previous == null) {
+            return null;
+        }
+        node.value = null;
+        this.size--;
+        if (node != root) {
+            // Drop nodes which no longer separate anything
+            if (node.children[0] == null || node.children[1] == null) {
+                final @Nullable Node<V> onlyChild = node.children[0] == null ? node.children[1] : node.children[0];
+                parent.replace(node, onlyChild);
+                if (onlyChild == null && parent != root && parent.value == null && grandParent != null) {
+                    grandParent.replace(parent, parent.children[0] == null ? parent.children[1] : parent.children[0]);
+                }
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Gets the value of the most specific network containing the address.
+     *
+     * @param address The address
+     * @return The value, if any network contains the address
+     */
+    public @Nullable V get(final InetAddress address) {
+        return this.get(address.getAddress());
+    }
+
+    /**
+     * Gets the value of the most specific network containing the address.
+     *
+     * @param address The address, 4 or 16 bytes long
+     * @return The value, if any network contains the address
+     */
+    public @Nullable V get(final byte[] address) {
+        @Nullable Node<V> node = this.root(address);
+        @Nullable V found = null;
+        int matched = 0;
+        while (node != null) {
+            if (IpTrie.commonPrefixLength(address, node.key, matched, node.prefixLength) != node.prefixLength) {
+                break;
+            }
+            if (node.value != null) {
+                found = node.value;
+            }
+            matched = node.prefixLength;
+            if (matched == address.length * 8) {
+                break;
+            }
+            node = node.children[IpTrie.bit(address, matched)];
+        }
+        return found;
+    }
+
+    /**
+     * Gets the value of the exact given network, ignoring any network
+     * containing it.
+     *
+     * @param network The network
+     * @return The value, if any
+     */
+    public @Nullable V getExact(final IpSet network) {
+        return this.getExact(network.getAddress().getAddress(), network.getPrefixLength());
+    }
+
+    /**
+     * Gets the value of the exact given network, ignoring any network
+     * containing it.
+     *
+     * @param address The address of the network, 4 or 16 bytes long
+     * @param prefixLength The number of leading bits of the address forming the network
+     * @return The value, if any
+     */
+    public @Nullable V getExact(final byte[] address, final int prefixLength) {
+        IpTrie.checkPrefixLength(address, prefixLength);
+        Node<V> node = this.root(address);
+        while (node.prefixLength < prefixLength) {
+            final @Nullable Node<V> child = node.children[IpTrie.bit(address, node.prefixLength)];
+            if (child == null || child.prefixLength > prefixLength
+                || IpTrie.commonPrefixLength(address, child.key, node.prefixLength, child.prefixLength) != child.prefixLength) {
+                return null;
+            }
+            node = child;
+        }
+        return node.value;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.v4Root.clear();
+        this.v6Root.clear();
+        this.size = 0;
+    }
+
+    private Node<V> root(final byte[] address) {
+        if (address.length == 4) {
+            return this.v4Root;
+        } else if (address.length == 16) {
+            return this.v6Root;
+        }
+        throw new IllegalArgumentException("An IP address must be 4 or 16 bytes long, got " + address.length);
+    }
+
+    private static void checkPrefixLength(final byte[] address, final int prefixLength) {
+        if (prefixLength < 0 || prefixLength > address.length * 8) {
+            throw new IllegalArgumentException("Invalid prefix length " + prefixLength + " for a " + address.length * 8 + " bit address");
+        }
+    }
+
+    private static int bit(final byte[] address, final int index) {
+        return (address[index >> 3] >> (7 - (index & 7))) & 1;
+    }
+
+    private static byte[] mask(final byte[] address, final int prefixLength) {
+        final byte[] masked = new byte[address.length];
+        final int fullBytes = prefixLength >> 3;
+        System.arraycopy(address, 0, masked, 0, fullBytes);
+        final int remainingBits = prefixLength & 7;
+        if (remainingBits != 0) {
+            masked[fullBytes] = (byte) (address[fullBytes] & (0xFF << (8 - remainingBits)));
+        }
+        return masked;
+    }
+
+    /**
+     * Gets the length of the prefix both addresses share, knowing they share
+     * at least the first {@code from} bits and looking no further than
+     * {@code to} bits.
+     */
+    private static int commonPrefixLength(final byte[] a, final byte[] b, final int from, final int to) {
+        int index = from;
+        while (index < to) {
+            final int byteIndex = index >> 3;
+            final int diff = (a[byteIndex] ^ b[byteIndex]) & (0xFF >> (index & 7));
+            if (diff != 0) {
+                return Math.min(to, (byteIndex << 3) + Integer.numberOfLeadingZeros(diff) - 24);
+            }
+            index = (byteIndex + 1) << 3;
+        }
+        return to;
+    }
+
+    private static final class Node<V> {
+
+        final byte[] key;
+        final int prefixLength;
+        @Nullable V value;
+        @SuppressWarnings("unchecked")
+        final @Nullable Node<V>[] children = new Node[2];
+
+        Node(final byte[] key, final int prefixLength, final @Nullable V value) {
+            this.key = key;
+            this.prefixLength = prefixLength;
+            this.value = value;
+        }
+
+        void replace(final Node<V> child, final @Nullable Node<V> replacement) {
+            if (this.children[0] == child) {
+                this.children[0] = replacement;
+            } else {
+                this.children[1] = replacement;
+            }
+        }
+
+        void clear() {
+            this.value = null;
+            this.children[0] = null;
+            this.children[1] = null;
+        }
+    }
+}
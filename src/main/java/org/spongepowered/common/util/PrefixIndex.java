@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A sorted, case insensitive index of strings that can be queried by prefix
+ * without scanning every entry. Entries can be added and removed at any
+ * time, from any thread.
+ *
+ * <p>Values are counted, a value added several times, for example the
+ * same name of two different users, stays in the index until it was
+ * removed as often as it was added.</p>
+ */
+public final class PrefixIndex {
+
+    // lower case key -> value as it was last added
+    private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+
+    public void add(final String value) {
+        this.entries.compute(value.toLowerCase(Locale.ROOT), (key, entry) -> new Entry(value, entry == null ? 1 : entry.count + 1));
+    }
+
+    public void remove(final String value) {
+        this.entries.computeIfPresent(value.toLowerCase(Locale.ROOT),
+                (key, entry) -> entry.count == 1 ? null : new Entry(entry.value, entry.count - 1));
+    }
+
+    public void clear() {
+        this.entries.clear();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Gets the values that start with the given prefix, ignoring case, in
+     * sorted order.
+     *
+     * @param prefix The prefix
+     * @param limit The maximum number of values to return
+     * @return The matching values
+     */
+    public List<String> complete(final String prefix, final int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        final List<String> results = new ArrayList<>(Math.min(limit, 16));
+        for (final Map.Entry<String, Entry> entry : this.entries.tailMap(lowerPrefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(lowerPrefix)) {
+                break;
+            }
+            results.add(entry.getValue().value);
+            if (results.size() >= limit) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    private static final class Entry {
+
+        final String value;
+        final int count;
+
+        Entry(final String value, final int count) {
+            this.value = value;
+            this.count = count;
+        }
+    }
+
+}
@@ -29,12 +29,14 @@
 import net.minecraft.server.players.StoredUserList;
 import org.spongepowered.common.accessor.server.players.StoredUserEntryAccessor;
 import org.spongepowered.common.accessor.server.players.StoredUserListAccessor;
+import org.spongepowered.common.bridge.server.management.StoredUserListBridge;
 
 public final class UserListUtil {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static void addEntry(final StoredUserList list, final StoredUserEntry entry) {
         ((StoredUserListAccessor) list).accessor$map().put(((StoredUserListAccessor) list).invoker$getKeyForUser(((StoredUserEntryAccessor) entry).accessor$user()), entry);
+        ((StoredUserListBridge) list).bridge$markModified();
 
         try {
             list.save();
@@ -46,6 +48,7 @@ public static void addEntry(final StoredUserList list, final StoredUserEntry ent
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static void removeEntry(final StoredUserList list, final Object object) {
         ((StoredUserListAccessor) list).accessor$map().remove(((StoredUserListAccessor) list).invoker$getKeyForUser(object));
+        ((StoredUserListBridge) list).bridge$markModified();
 
         try {
             list.save();
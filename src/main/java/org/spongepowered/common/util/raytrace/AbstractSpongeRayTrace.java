@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.util.raytrace;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
@@ -37,17 +39,24 @@
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
-import org.spongepowered.common.util.VecHelper;
-import org.spongepowered.common.util.raytrace.AbstractSpongeRayTrace.TData;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
 
 public abstract class AbstractSpongeRayTrace<T extends Locatable> implements RayTrace<@NonNull T> {
 
@@ -161,52 +170,88 @@
     @Override
     public Optional<RayTraceResult<@NonNull T>> execute() {
         this.setupEnd();
+        final ServerWorld serverWorld = this.getServerWorld();
+        return this.execute(serverWorld, new ChunkCache((Level) serverWorld));
+    }
 
+    /**
+     * Executes all of the given ray traces, sharing the loaded chunk lookups
+     * between the traces that happen in the same world. This is intended for
+     * callers that trace many rays in a single tick.
+     *
+     * @param rayTraces The ray traces to execute
+     * @param <T> The type of object the ray traces select
+     * @return The results, in the same order as the given ray traces
+     */
+    public static <T extends Locatable> List<Optional<RayTraceResult<@NonNull T>>> executeAll(
+            final List<? extends AbstractSpongeRayTrace<T>> rayTraces) {
+        final List<Optional<RayTraceResult<@NonNull T>>> results = new ArrayList<>(rayTraces.size());
+        final Map<ResourceKey, ChunkCache> caches = new HashMap<>();
+        for (final AbstractSpongeRayTrace<T> rayTrace : rayTraces) {
+            rayTrace.setupEnd();
+            final ServerWorld serverWorld = rayTrace.getServerWorld();
+            final ChunkCache cache = caches.computeIfAbsent(rayTrace.world, k -> new ChunkCache((Level) serverWorld));
+            results.add(rayTrace.execute(serverWorld, cache));
+        }
+        return results;
+    }
+
+    private Optional<RayTraceResult<@NonNull T>> execute(final ServerWorld serverWorld, final ChunkCache chunks) {
         // get the direction
-        final Vector3d directionWithLength = this.end.sub(this.start);
-        final double length = directionWithLength.length();
-        final Vector3d direction = directionWithLength.normalize();
-        if (direction.lengthSquared() == 0) {
+        final double length = this.end.distance(this.start);
+        if (length == 0) {
             throw new IllegalStateException("The start and end must be two different vectors");
         }
+        final double directionX = (this.end.getX() - this.start.getX()) / length;
+        final double directionY = (this.end.getY() - this.start.getY()) / length;
+        final double directionZ = (this.end.getZ() - this.start.getZ()) / length;
 
-        final ServerWorld serverWorld = Sponge.getServer().getWorldManager().world(this.world)
-                .orElseThrow(() -> new IllegalStateException("World with key " + this.world.getFormatted() + " is not loaded!"));
+        final Step step = new Step(serverWorld, chunks);
+        if (this.requiresEntityTracking()) {
+            this.collectEntityCandidates(step);
+        }
 
-        Vector3i currentBlock = this.initialBlock(direction);
-        final Vector3i steps = this.createSteps(direction);
+        int blockX = this.initialBlock(this.start.getX(), directionX);
+        int blockY = this.initialBlock(this.start.getY(), directionY);
+        int blockZ = this.initialBlock(this.start.getZ(), directionZ);
+        final int stepX = (int) Math.signum(directionX);
+        final int stepY = (int) Math.signum(directionY);
+        final int stepZ = (int) Math.signum(directionZ);
 
         // The ray equation is, vec(u) + t vec(d). From a point (x, y), there is a t
         // that we need to traverse to get to a boundary. We work that out now...
-        TData tData = this.createInitialTData(direction);
-        Vector3d currentLocation = new Vector3d(this.start.getX(), this.start.getY(), this.start.getZ());
-        final boolean requiresEntityTracking = this.requiresEntityTracking();
+        final TData tData = new TData(
+                0,
+                this.getT(this.start.getX(), directionX, this.end.getX()),
+                this.getT(this.start.getY(), directionY, this.end.getY()),
+                this.getT(this.start.getZ(), directionZ, this.end.getZ())
+        );
+        double x = this.start.getX();
+        double y = this.start.getY();
+        double z = this.start.getZ();
 
         boolean requireAdvancement = true;
         while (requireAdvancement) {
-            final net.minecraft.world.phys.Vec3 vec3dstart = VecHelper.toVanillaVector3d(currentLocation);
+            step.start(blockX, blockY, blockZ, x, y, z);
             // As this iteration is for the CURRENT block location, we need to check where we are with the filter.
-            if (this.continueWhileLocation != null && !this.continueWhileLocation.test(ServerLocation.of(serverWorld, currentBlock))) {
+            if (this.continueWhileLocation != null
+                    && !this.continueWhileLocation.test(ServerLocation.of(serverWorld, new Vector3i(blockX, blockY, blockZ)))) {
                 return Optional.empty();
             }
-            final Vector3d nextLocation;
-            final net.minecraft.world.phys.Vec3 vec3dend;
             if (tData.getTotalTWithNextStep() > length) {
                 // This is the last step, we break out of the loop after this set of checks.
                 requireAdvancement = false;
-                nextLocation = this.end;
-                vec3dend = VecHelper.toVanillaVector3d(this.end);
+                step.end(this.end.getX(), this.end.getY(), this.end.getZ());
             } else {
-                nextLocation = currentLocation.add(
-                        direction.getX() * tData.getNextStep(),
-                        direction.getY() * tData.getNextStep(),
-                        direction.getZ() * tData.getNextStep()
+                step.end(
+                        x + directionX * tData.getNextStep(),
+                        y + directionY * tData.getNextStep(),
+                        z + directionZ * tData.getNextStep()
                 );
-                vec3dend = VecHelper.toVanillaVector3d(nextLocation);
             }
 
             // Get the selection result.
-            final Optional<RayTraceResult<@NonNull T>> result = this.testSelectLocation(serverWorld, vec3dstart, vec3dend);
+            final Optional<RayTraceResult<@NonNull T>> result = this.testSelectLocation(step);
             if (result.isPresent() && !this.shouldCheckFailures()) {
                 // either this is a block ray, so no failures need to be checked, else
                 // we return the entity later if there isn't an entity in front of it
@@ -215,24 +260,23 @@
             }
 
             // Ensure that the block can be travelled through.
-            if (!this.shouldAdvanceThroughBlock(serverWorld, vec3dstart, vec3dend)) {
+            if (this.continueWhileBlock != null && !this.continueWhileBlock.test(step.getLocatableBlock())) {
                 return Optional.empty();
             }
 
             // Ensure that the entities in the block can be travelled through.
-            if (requiresEntityTracking && this.continueWhileEntity != null) {
+            if (!step.failingEntities.isEmpty()) {
                 final double resultDistance;
                 if (result.isPresent()) {
-                    resultDistance = result.get().getHitPosition().distanceSquared(currentLocation);
+                    resultDistance = result.get().getHitPosition().distanceSquared(x, y, z);
                 } else {
                     resultDistance = Double.MAX_VALUE;
                 }
-                final AABB targetAABB = this.getBlockAABB(currentBlock);
-                for (final net.minecraft.world.entity.Entity entity : this.getFailingEntities(serverWorld, targetAABB)) {
-                    final Optional<net.minecraft.world.phys.Vec3> vec3d = entity.getBoundingBox().clip(vec3dstart, vec3dend);
+                for (final net.minecraft.world.entity.Entity entity : step.failingEntities) {
+                    final Optional<Vec3> vec3d = step.clip(entity);
                     if (vec3d.isPresent()) {
-                        final net.minecraft.world.phys.Vec3 hitPosition = vec3d.get();
-                        final double sqdist = hitPosition.distanceToSqr(vec3dstart);
+                        final Vec3 hitPosition = vec3d.get();
+                        final double sqdist = hitPosition.distanceToSqr(x, y, z);
                         if (sqdist < resultDistance) {
                             // We have a failure, so at this point we just bail out and end the trace.
                             return Optional.empty();
@@ -247,9 +291,13 @@
             }
 
             if (requireAdvancement) {
-                currentLocation = nextLocation;
-                currentBlock = this.getNextBlock(currentBlock, tData, steps);
-                tData = this.advance(tData, steps, direction);
+                x = step.endX;
+                y = step.endY;
+                z = step.endZ;
+                blockX += tData.nextStepWillAdvanceX() ? stepX : 0;
+                blockY += tData.nextStepWillAdvanceY() ? stepY : 0;
+                blockZ += tData.nextStepWillAdvanceZ() ? stepZ : 0;
+                tData.advance(stepX, stepY, stepZ, directionX, directionY, directionZ);
             }
         }
 
@@ -269,61 +317,40 @@
         return this;
     }
 
-    final Vector3i getNextBlock(final Vector3i current, final TData data, final Vector3i steps) {
-        return current.add(
-                data.nextStepWillAdvanceX() ? steps.getX() : 0,
-                data.nextStepWillAdvanceY() ? steps.getY() : 0,
-                data.nextStepWillAdvanceZ() ? steps.getX() : 0
-        );
-    }
-
-    final Vector3i createSteps(final Vector3d direction) {
-        return new Vector3i(
-                Math.signum(direction.getX()),
-                Math.signum(direction.getY()),
-                Math.signum(direction.getZ())
+    /**
+     * Queries the world once for every entity the ray could pass through,
+     * rather than once for every block along the ray.
+     */
+    private void collectEntityCandidates(final Step step) {
+        final AABB sweptAABB = new AABB(
+                Math.floor(Math.min(this.start.getX(), this.end.getX())),
+                Math.floor(Math.min(this.start.getY(), this.end.getY())),
+                Math.floor(Math.min(this.start.getZ(), this.end.getZ())),
+                Math.floor(Math.max(this.start.getX(), this.end.getX())) + 1,
+                Math.floor(Math.max(this.start.getY(), this.end.getY())) + 1,
+                Math.floor(Math.max(this.start.getZ(), this.end.getZ())) + 1
         );
-    }
-
-    final AABB getBlockAABB(final Vector3i currentBlock) {
-        return new AABB(currentBlock.getX(),
-                currentBlock.getY(), currentBlock.getZ(), currentBlock.getX() + 1, currentBlock.getY() + 1, currentBlock.getZ() + 1);
-    }
-
-    private List<net.minecraft.world.entity.Entity> getFailingEntities(final ServerWorld serverWorld, final AABB targetAABB) {
-        return ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, targetAABB, (Predicate) this.continueWhileEntity.negate());
+        final Predicate<Entity> failing = this.continueWhileEntity == null ? null : this.continueWhileEntity.negate();
+        for (final net.minecraft.world.entity.Entity entity : step.chunks.level.getEntities((net.minecraft.world.entity.Entity) null, sweptAABB,
+                entity -> true)) {
+            if (this.isSelectable(entity)) {
+                step.selectableEntities.add(entity);
+            }
+            if (failing != null && failing.test((Entity) entity)) {
+                step.failingEntities.add(entity);
+            }
+        }
     }
 
     boolean requiresEntityTracking() {
         return this.continueWhileEntity != null;
     }
 
-    List<net.minecraft.world.entity.Entity> selectEntities(final ServerWorld serverWorld, final AABB targetAABB) {
-        return Collections.emptyList();
-    }
-
-    abstract Optional<RayTraceResult<@NonNull T>> testSelectLocation(final ServerWorld serverWorld,
-            final net.minecraft.world.phys.Vec3 location,
-            final net.minecraft.world.phys.Vec3 exitLocation);
-
-    final LocatableBlock getBlock(final ServerWorld world, final net.minecraft.world.phys.Vec3 in, final net.minecraft.world.phys.Vec3 out) {
-        final Vector3i coord = new Vector3i(
-                Math.min(in.x, out.x),
-                Math.min(in.y, out.y),
-                Math.min(in.z, out.z)
-        );
-        return world.getLocatableBlock(coord);
+    boolean isSelectable(final net.minecraft.world.entity.Entity entity) {
+        return false;
     }
 
-    private boolean shouldAdvanceThroughBlock(final ServerWorld serverWorld,
-            final net.minecraft.world.phys.Vec3 location,
-            final net.minecraft.world.phys.Vec3 exitLocation) {
-        if (this.continueWhileBlock == null) {
-            return true;
-        }
-
-        return this.continueWhileBlock.test(this.getBlock(serverWorld, location, exitLocation));
-    }
+    abstract Optional<RayTraceResult<@NonNull T>> testSelectLocation(final Step step);
 
     boolean shouldCheckFailures() {
         return false;
@@ -348,31 +375,13 @@ final void setupEnd() {
         }
     }
 
-    final Vector3i initialBlock(final Vector3d direction) {
-        return new Vector3i(
-                this.start.getX() - (direction.getX() < 0 && this.start.getX() == 0 ? 1 : 0),
-                this.start.getY() - (direction.getY() < 0 && this.start.getY() == 0 ? 1 : 0),
-                this.start.getZ() - (direction.getZ() < 0 && this.start.getZ() == 0 ? 1 : 0)
-        );
-    }
-
-    final TData createInitialTData(final Vector3d direction) {
-        return new TData(
-                0,
-                this.getT(this.start.getX(), direction.getX(), this.end.getX()),
-                this.getT(this.start.getY(), direction.getY(), this.end.getY()),
-                this.getT(this.start.getZ(), direction.getZ(), this.end.getZ())
-        );
+    private ServerWorld getServerWorld() {
+        return Sponge.getServer().getWorldManager().world(this.world)
+                .orElseThrow(() -> new IllegalStateException("World with key " + this.world.getFormatted() + " is not loaded!"));
     }
 
-    final TData advance(final TData data, final Vector3i steps, final Vector3d direction) {
-        final double nextStep = data.getNextStep();
-        return new TData(
-                data.getTotalTWithNextStep(),
-                data.nextStepWillAdvanceX() ? steps.getX() / direction.getX() : data.gettToX() - nextStep,
-                data.nextStepWillAdvanceY() ? steps.getY() / direction.getY() : data.gettToY() - nextStep,
-                data.nextStepWillAdvanceZ() ? steps.getZ() / direction.getZ() : data.gettToZ() - nextStep
-        );
+    private int initialBlock(final double start, final double direction) {
+        return Mth.floor(start - (direction < 0 && start == 0 ? 1 : 0));
     }
 
     private double getT(final double start, final double direction, final double end) {
@@ -386,15 +395,141 @@ private double getT(final double start, final double direction, final double end
         }
     }
 
+    /**
+     * Looks up block states through the chunks they are in, remembering the
+     * chunks that were already looked up for the following steps and rays.
+     */
+    static final class ChunkCache {
+
+        final Level level;
+        private final Long2ObjectMap<LevelChunk> chunks = new Long2ObjectOpenHashMap<>();
+        private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        private long lastChunkKey;
+        @Nullable private LevelChunk lastChunk;
+
+        ChunkCache(final Level level) {
+            this.level = level;
+        }
+
+        BlockState getBlockState(final int x, final int y, final int z) {
+            this.pos.set(x, y, z);
+            if (Level.isOutsideBuildHeight(this.pos)) {
+                return Blocks.VOID_AIR.defaultBlockState();
+            }
+            final long chunkKey = ChunkPos.asLong(x >> 4, z >> 4);
+            LevelChunk chunk = this.lastChunk;
+            if (chunk == null || this.lastChunkKey != chunkKey) {
+                chunk = this.chunks.get(chunkKey);
+                if (chunk == null) {
+                    chunk = this.level.getChunk(x >> 4, z >> 4);
+                    this.chunks.put(chunkKey, chunk);
+                }
+                this.lastChunk = chunk;
+                this.lastChunkKey = chunkKey;
+            }
+            return chunk.getBlockState(this.pos);
+        }
+    }
+
+    /**
+     * The mutable state of the ray within the block it is currently passing
+     * through, reused for every step of a single ray.
+     */
+    static final class Step {
+
+        final ServerWorld world;
+        final ChunkCache chunks;
+        final List<net.minecraft.world.entity.Entity> selectableEntities = new ArrayList<>();
+        final List<net.minecraft.world.entity.Entity> failingEntities = new ArrayList<>();
+        int blockX;
+        int blockY;
+        int blockZ;
+        double startX;
+        double startY;
+        double startZ;
+        double endX;
+        double endY;
+        double endZ;
+        @Nullable private BlockState blockState;
+        @Nullable private LocatableBlock locatableBlock;
+        @Nullable private Vec3 startVec;
+        @Nullable private Vec3 endVec;
+
+        Step(final ServerWorld world, final ChunkCache chunks) {
+            this.world = world;
+            this.chunks = chunks;
+        }
+
+        void start(final int blockX, final int blockY, final int blockZ, final double x, final double y, final double z) {
+            this.blockX = blockX;
+            this.blockY = blockY;
+            this.blockZ = blockZ;
+            this.startX = x;
+            this.startY = y;
+            this.startZ = z;
+            this.blockState = null;
+            this.locatableBlock = null;
+            this.startVec = null;
+        }
+
+        void end(final double x, final double y, final double z) {
+            this.endX = x;
+            this.endY = y;
+            this.endZ = z;
+            this.endVec = null;
+        }
+
+        BlockState getBlockState() {
+            if (this.blockState == null) {
+                this.blockState = this.chunks.getBlockState(this.blockX, this.blockY, this.blockZ);
+            }
+            return this.blockState;
+        }
+
+        LocatableBlock getLocatableBlock() {
+            if (this.locatableBlock == null) {
+                this.locatableBlock = this.world.getLocatableBlock(new Vector3i(this.blockX, this.blockY, this.blockZ));
+            }
+            return this.locatableBlock;
+        }
+
+        Vector3d getStartPosition() {
+            return new Vector3d(this.startX, this.startY, this.startZ);
+        }
+
+        /**
+         * Gets where the given entity is hit within the current block, if at
+         * all. Entities that don't overlap the current block are skipped
+         * without allocating.
+         */
+        Optional<Vec3> clip(final net.minecraft.world.entity.Entity entity) {
+            final AABB boundingBox = entity.getBoundingBox();
+            if (!boundingBox.intersects(this.blockX, this.blockY, this.blockZ, this.blockX + 1, this.blockY + 1, this.blockZ + 1)) {
+                return Optional.empty();
+            }
+            if (this.startVec == null) {
+                this.startVec = new Vec3(this.startX, this.startY, this.startZ);
+            }
+            if (this.endVec == null) {
+                this.endVec = new Vec3(this.endX, this.endY, this.endZ);
+            }
+            return boundingBox.clip(this.startVec, this.endVec);
+        }
+    }
+
     static final class TData {
 
-        private final double totalT;
-        private final double tToX;
-        private final double tToY;
-        private final double tToZ;
-        private final double nextStep;
+        private double totalT;
+        private double tToX;
+        private double tToY;
+        private double tToZ;
+        private double nextStep;
 
         TData(final double totalT, final double tToX, final double tToY, final double tToZ) {
+            this.set(totalT, tToX, tToY, tToZ);
+        }
+
+        private void set(final double totalT, final double tToX, final double tToY, final double tToZ) {
             this.totalT = totalT;
             this.tToX = tToX;
             this.tToY = tToY;
@@ -402,6 +537,16 @@ static final class TData {
             this.nextStep = Math.min(tToX, Math.min(tToY, tToZ));
         }
 
+        void advance(final int stepX, final int stepY, final int stepZ, final double directionX, final double directionY, final double directionZ) {
+            final double nextStep = this.nextStep;
+            this.set(
+                    this.getTotalTWithNextStep(),
+                    this.nextStepWillAdvanceX() ? stepX / directionX : this.tToX - nextStep,
+                    this.nextStepWillAdvanceY() ? stepY / directionY : this.tToY - nextStep,
+                    this.nextStepWillAdvanceZ() ? stepZ / directionZ : this.tToZ - nextStep
+            );
+        }
+
         public double getTotalT() {
             return this.totalT;
         }
@@ -29,12 +29,9 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.util.blockray.RayTraceResult;
 import org.spongepowered.api.world.LocatableBlock;
-import org.spongepowered.api.world.server.ServerWorld;
-import org.spongepowered.common.util.VecHelper;
 
 import java.util.Optional;
 import java.util.function.Predicate;
-import net.minecraft.world.phys.Vec3;
 
 public final class SpongeBlockRayTrace extends AbstractSpongeRayTrace<@NonNull LocatableBlock> {
 
@@ -48,13 +45,15 @@ public final class SpongeBlockRayTrace extends AbstractSpongeRayTrace<@NonNull L
     }
 
     @Override
-    final Optional<RayTraceResult<@NonNull LocatableBlock>> testSelectLocation(final ServerWorld serverWorld,
-            final Vec3 location,
-            final Vec3 exitLocation) {
-
-        final LocatableBlock initialBlock = this.getBlock(serverWorld, location, exitLocation);
+    final Optional<RayTraceResult<@NonNull LocatableBlock>> testSelectLocation(final Step step) {
+        // The default filter only needs the block state, which can be read
+        // without creating a locatable block for every block along the ray.
+        if (this.select == SpongeBlockRayTrace.DEFAULT_FILTER && step.getBlockState().isAir()) {
+            return Optional.empty();
+        }
+        final LocatableBlock initialBlock = step.getLocatableBlock();
         if (this.select.test(initialBlock)) {
-            return Optional.of(new SpongeRayTraceResult<>(initialBlock, VecHelper.toVector3d(location)));
+            return Optional.of(new SpongeRayTraceResult<>(initialBlock, step.getStartPosition()));
         }
         return Optional.empty();
     }
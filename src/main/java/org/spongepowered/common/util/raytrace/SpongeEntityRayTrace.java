@@ -27,15 +27,10 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.util.blockray.RayTraceResult;
-import org.spongepowered.api.world.LocatableBlock;
-import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.util.VecHelper;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
-import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 public final class SpongeEntityRayTrace extends AbstractSpongeRayTrace<@NonNull Entity> {
@@ -52,20 +47,19 @@ boolean requiresEntityTracking() {
     }
 
     @Override
-    List<net.minecraft.world.entity.Entity> selectEntities(final ServerWorld serverWorld, final AABB targetAABB) {
-        return ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, targetAABB, (Predicate) this.select);
+    boolean isSelectable(final net.minecraft.world.entity.Entity entity) {
+        return this.select.test((Entity) entity);
     }
 
     @Override
-    final Optional<RayTraceResult<@NonNull Entity>> testSelectLocation(final ServerWorld serverWorld, final Vec3 vec3din, final Vec3 vec3dend) {
+    final Optional<RayTraceResult<@NonNull Entity>> testSelectLocation(final Step step) {
         double currentSqDist = Double.MAX_VALUE;
         RayTraceResult<@NonNull Entity> returnedEntity = null;
-        final LocatableBlock locatableBlock = this.getBlock(serverWorld, vec3din, vec3dend);
-        for (final net.minecraft.world.entity.Entity entity : this.selectEntities(serverWorld, this.getBlockAABB(locatableBlock.getBlockPosition()))) {
-            final Optional<Vec3> vec3d = entity.getBoundingBox().clip(vec3din, vec3dend);
+        for (final net.minecraft.world.entity.Entity entity : step.selectableEntities) {
+            final Optional<Vec3> vec3d = step.clip(entity);
             if (vec3d.isPresent()) {
                 final Vec3 hitPosition = vec3d.get();
-                final double sqdist = hitPosition.distanceToSqr(vec3din);
+                final double sqdist = hitPosition.distanceToSqr(step.startX, step.startY, step.startZ);
                 if (sqdist < currentSqDist) {
                     currentSqDist = sqdist;
                     returnedEntity = new SpongeRayTraceResult<>((Entity) entity, VecHelper.toVector3d(hitPosition));
@@ -26,6 +26,10 @@
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.registry.Registry;
 import org.spongepowered.api.registry.RegistryHolder;
@@ -52,6 +56,10 @@
     private final PaletteType<T, R> paletteType;
     private final Registry<R> registry;
     private final RegistryType<R> registryType;
+    // Resolving a reference goes through the palette type's string form, so the
+    // results are remembered per value and per id for volumes touching the palette per block.
+    private final Reference2IntMap<T> idsByValue = new Reference2IntOpenHashMap<>();
+    private final Int2ObjectMap<T> valuesById = new Int2ObjectOpenHashMap<>();
     private int maxId = 0;
 
     public MutableBimapPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType) {
@@ -60,6 +68,7 @@ public MutableBimapPalette(final PaletteType<T, R> paletteType, final Registry<R
         this.paletteType = paletteType;
         this.registry = registry;
         this.registryType = registryType;
+        this.idsByValue.defaultReturnValue(-1);
     }
 
     public MutableBimapPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType,
@@ -70,6 +79,7 @@ public MutableBimapPalette(final PaletteType<T, R> paletteType, final Registry<R
         this.paletteType = paletteType;
         this.registry = registry;
         this.registryType = registryType;
+        this.idsByValue.defaultReturnValue(-1);
         reference.forEach((key, id) -> this.getOrAssignInternal(key));
     }
 
@@ -81,6 +91,7 @@ public MutableBimapPalette(final PaletteType<T, R> paletteType, final Registry<R
         this.paletteType = paletteType;
         this.registry = registry;
         this.registryType = registryType;
+        this.idsByValue.defaultReturnValue(-1);
     }
 
     @Override
@@ -95,6 +106,10 @@ public int getHighestId() {
 
     @Override
     public OptionalInt get(final T state) {
+        final int cached = this.idsByValue.getInt(state);
+        if (cached != -1) {
+            return OptionalInt.of(cached);
+        }
         final PaletteReference<T, R> ref = MutableBimapPalette.createPaletteReference(
             state,
             this.paletteType,
@@ -123,12 +138,18 @@ private int getOrAssignInternal(final PaletteReference<T, R> ref) {
 
     @Override
     public int getOrAssign(final T state) {
+        final int cached = this.idsByValue.getInt(state);
+        if (cached != -1) {
+            return cached;
+        }
         final PaletteReference<T, R> ref = MutableBimapPalette.createPaletteReference(
             state,
             this.paletteType,
             this.registry
         );
-        return this.getOrAssignInternal(ref);
+        final int id = this.getOrAssignInternal(ref);
+        this.idsByValue.put(state, id);
+        return id;
     }
 
     @Override
@@ -138,9 +159,14 @@ public Optional<PaletteReference<T, R>> get(final int id) {
 
     @Override
     public Optional<T> get(final int id, final RegistryHolder holder) {
+        final T cached = this.valuesById.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         return this.get(id)
             .flatMap(ref -> {
                 final Optional<T> byRegistry = this.paletteType.getResolver().apply(ref.value(), this.registry);
+                byRegistry.ifPresent(value -> this.valuesById.put(id, value));
                 if (!byRegistry.isPresent()) {
                     return Objects.requireNonNull(holder,"RegistryHolder cannot be null")
                         .findRegistry(ref.registry())
@@ -161,6 +187,7 @@ public int assign(final T state, final int id) {
             this.registry
         );
         this.ids.put(id, ref);
+        this.invalidateResolved();
         return id;
     }
 
@@ -176,7 +203,7 @@ static <T, R> PaletteReference<T, R> createPaletteReference(
 
     @Override
     public boolean remove(final T state) {
-        final Integer id = this.idsr.get(state);
+        final Integer id = this.idsr.get(MutableBimapPalette.createPaletteReference(state, this.paletteType, this.registry));
         if (id == null) {
             return false;
         }
@@ -185,9 +212,15 @@ public boolean remove(final T state) {
             this.maxId = this.allocation.previousSetBit(this.maxId);
         }
         this.ids.remove(id);
+        this.invalidateResolved();
         return true;
     }
 
+    private void invalidateResolved() {
+        this.idsByValue.clear();
+        this.valuesById.clear();
+    }
+
     @Override
     public Stream<T> stream() {
         final HashBiMap<PaletteReference<T, R>, Integer> copy = HashBiMap.create(this.idsr);
@@ -0,0 +1,208 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.AbstractObject2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.spongepowered.common.SpongeCommon;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A sampling profiler for the entity and block entity ticking of each world,
+ * attributing the time spent to the chunk and the type of the ticked object.
+ *
+ * <p>Only ticks on every {@link #getSampleInterval() n-th} server tick are
+ * measured, which keeps the overhead low enough to leave running on a live
+ * server while hunting for a lag machine.</p>
+ *
+ * <p>The profiler is not synchronized. Samples are recorded from the entity
+ * and block entity ticks of each world, and the chunkprofile command starts,
+ * stops and reports it while commands are processed. Both happen on the
+ * server thread.</p>
+ */
+public final class ChunkTickProfiler {
+
+    public static final ChunkTickProfiler INSTANCE = new ChunkTickProfiler();
+
+    private final Reference2ObjectMap<ResourceKey<Level>, Long2ObjectMap<ChunkCost>> costs = new Reference2ObjectOpenHashMap<>();
+    private boolean running;
+    private int sampleInterval = 1;
+    private int startTick;
+    private int sampledTicks;
+    private int lastSampledTick = -1;
+
+    private ChunkTickProfiler() {
+    }
+
+    public void start(final int sampleInterval) {
+        this.costs.clear();
+        this.sampleInterval = Math.max(1, sampleInterval);
+        this.startTick = SpongeCommon.getServer().getTickCount();
+        this.sampledTicks = 0;
+        this.lastSampledTick = -1;
+        this.running = true;
+    }
+
+    public void stop() {
+        this.running = false;
+    }
+
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    public int getSampleInterval() {
+        return this.sampleInterval;
+    }
+
+    public int getSampledTicks() {
+        return this.sampledTicks;
+    }
+
+    /**
+     * Gets whether ticks happening right now should be measured.
+     *
+     * @return True if the current server tick is sampled
+     */
+    public boolean shouldSample() {
+        if (!this.running) {
+            return false;
+        }
+        final int tick = SpongeCommon.getServer().getTickCount();
+        if ((tick - this.startTick) % this.sampleInterval != 0) {
+            return false;
+        }
+        if (tick != this.lastSampledTick) {
+            this.lastSampledTick = tick;
+            this.sampledTicks++;
+        }
+        return true;
+    }
+
+    public void record(final ResourceKey<Level> world, final int chunkX, final int chunkZ, final Object type, final long nanos) {
+        final Long2ObjectMap<ChunkCost> chunks = this.costs.computeIfAbsent(world, k -> new Long2ObjectOpenHashMap<>());
+        final long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+        ChunkCost cost = chunks.get(chunkKey);
+        if (cost == null) {
+            cost = new ChunkCost(world, chunkX, chunkZ);
+            chunks.put(chunkKey, cost);
+        }
+        cost.nanos += nanos;
+        cost.byType.addTo(type, nanos);
+    }
+
+    /**
+     * Gets the most expensive chunks recorded since the profiler was started,
+     * most expensive first.
+     *
+     * @param limit The maximum amount of chunks to return
+     * @return The most expensive chunks
+     */
+    public List<ChunkCost> top(final int limit) {
+        final List<ChunkCost> all = new ArrayList<>();
+        for (final Long2ObjectMap<ChunkCost> chunks : this.costs.values()) {
+            all.addAll(chunks.values());
+        }
+        all.sort(Comparator.comparingLong(ChunkCost::getNanos).reversed());
+        return all.size() > limit ? new ArrayList<>(all.subList(0, limit)) : all;
+    }
+
+    public static final class ChunkCost {
+
+        private final ResourceKey<Level> world;
+        private final int chunkX;
+        private final int chunkZ;
+        final Reference2LongOpenHashMap<Object> byType = new Reference2LongOpenHashMap<>();
+        long nanos;
+
+        ChunkCost(final ResourceKey<Level> world, final int chunkX, final int chunkZ) {
+            this.world = world;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        public ResourceKey<Level> getWorld() {
+            return this.world;
+        }
+
+        public int getChunkX() {
+            return this.chunkX;
+        }
+
+        public int getChunkZ() {
+            return this.chunkZ;
+        }
+
+        public long getNanos() {
+            return this.nanos;
+        }
+
+        /**
+         * Gets the entity and block entity types that took the most time in
+         * this chunk, most expensive first.
+         *
+         * @param limit The maximum amount of types to return
+         * @return The type names, paired with their accumulated nanoseconds
+         */
+        public List<Object2LongMap.Entry<String>> topTypes(final int limit) {
+            final List<Reference2LongMap.Entry<Object>> entries = new ArrayList<>(this.byType.reference2LongEntrySet());
+            entries.sort(Comparator.comparingLong(Reference2LongMap.Entry<Object>::getLongValue).reversed());
+            final List<Object2LongMap.Entry<String>> types = new ArrayList<>(Math.min(limit, entries.size()));
+            for (int i = 0; i < entries.size() && i < limit; i++) {
+                final Reference2LongMap.Entry<Object> entry = entries.get(i);
+                types.add(new AbstractObject2LongMap.BasicEntry<>(ChunkCost.nameOf(entry.getKey()), entry.getLongValue()));
+            }
+            return types;
+        }
+
+        private static String nameOf(final Object type) {
+            final ResourceLocation key;
+            if (type instanceof EntityType) {
+                key = Registry.ENTITY_TYPE.getKey((EntityType<?>) type);
+            } else if (type instanceof BlockEntityType) {
+                key = Registry.BLOCK_ENTITY_TYPE.getKey((BlockEntityType<?>) type);
+            } else {
+                key = null;
+            }
+            return key == null ? String.valueOf(type) : key.toString();
+        }
+    }
+}
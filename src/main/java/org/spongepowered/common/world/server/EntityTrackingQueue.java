@@ -0,0 +1,117 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Spreads the registration of newly added entities with a world's entity
+ * tracker over several ticks.
+ *
+ * <p>Every tick may start tracking up to a budget of entities, anything
+ * added beyond that waits in insertion order until a later tick has budget
+ * left. Entities keep being added to the world right away, only the
+ * (per player) pairing with clients is deferred, so a wave of hundreds of
+ * mobs no longer pays for all of it in a single tick.</p>
+ *
+ * <p>Each queue belongs to the chunk map of one level and is only touched
+ * while that level adds, removes or ticks its entities, so it is not
+ * synchronized.</p>
+ *
+ * @param <E> The type of entity
+ */
+public final class EntityTrackingQueue<E> {
+
+    private final ObjectLinkedOpenHashSet<E> pending = new ObjectLinkedOpenHashSet<>();
+    private int budget = Integer.MAX_VALUE;
+    private int tracked;
+
+    /**
+     * Starts a new tick, resetting the number of entities that may be
+     * tracked during it. A budget of zero or less disables the limit.
+     *
+     * @param budget The number of entities that may start being tracked
+     */
+    public void startTick(final int budget) {
+        this.budget = budget <= 0 ? Integer.MAX_VALUE : budget;
+        this.tracked = 0;
+    }
+
+    /**
+     * Gets whether the given entity may be tracked right away, queueing it
+     * otherwise. Entities only skip the queue if it is empty, so that
+     * nothing waits forever behind a steady stream of new entities.
+     *
+     * @param entity The entity to track
+     * @return True if the entity should be tracked now
+     */
+    public boolean offer(final E entity) {
+        if (this.pending.isEmpty() && this.tracked < this.budget) {
+            this.tracked++;
+            return true;
+        }
+        this.pending.add(entity);
+        return false;
+    }
+
+    /**
+     * Removes an entity that left the world before it was tracked.
+     *
+     * @param entity The entity
+     * @return True if the entity was still queued
+     */
+    public boolean remove(final E entity) {
+        return this.pending.remove(entity);
+    }
+
+    /**
+     * Tracks queued entities until the budget of the current tick runs out.
+     * Entities that are no longer valid are dropped without using up any of
+     * the budget.
+     *
+     * @param valid Whether a queued entity should still be tracked
+     * @param track The action that starts tracking an entity
+     */
+    public void drain(final Predicate<? super E> valid, final Consumer<? super E> track) {
+        while (this.tracked < this.budget && !this.pending.isEmpty()) {
+            final E entity = this.pending.removeFirst();
+            if (valid.test(entity)) {
+                this.tracked++;
+                track.accept(entity);
+            }
+        }
+    }
+
+    public int size() {
+        return this.pending.size();
+    }
+
+    public void clear() {
+        this.pending.clear();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A time budget for the spawning done by a single world in each tick,
+ * shared by natural spawning and spawner blocks.
+ *
+ * <p>Each spawn cycle, the natural spawning of a chunk or the activation of
+ * a spawner, has to {@link #tryStart() start} while the tick still has
+ * budget left. Cycles that don't are skipped and retried on a later tick,
+ * as the chunks are visited in a random order and spawners stay ready to
+ * spawn. While the server falls behind its target tick time the budget
+ * shrinks quickly, and it recovers slowly once the server has caught up.</p>
+ *
+ * <p>Each world owns its budget, which is not synchronized. It is started
+ * when the world ticks its chunks, used by natural spawning and spawner
+ * blocks ticking in that world, and read by the tps command, all of which
+ * run on the server thread.</p>
+ */
+public final class SpawnBudget {
+
+    private static final double MIN_SCALE = 0.1D;
+    private static final double DECREASE_FACTOR = 0.75D;
+    private static final double RECOVERY_STEP = 0.01D;
+
+    private final LongSupplier clock;
+    private double scale = 1.0D;
+    private long allowance = Long.MAX_VALUE;
+    private long spent;
+    private long cycleStart;
+    private boolean skippedThisTick;
+
+    private long attempts;
+    private long successes;
+    private long skippedCycles;
+    private long skippedTicks;
+
+    public SpawnBudget() {
+        this(System::nanoTime);
+    }
+
+    SpawnBudget(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Starts the budget of a new tick.
+     *
+     * @param maxMillis The budget in milliseconds when the server keeps up,
+     *     zero or less for no limit
+     * @param averageTickMillis The current average tick time of the server
+     * @param targetTickMillis The average tick time above which the budget
+     *     is reduced
+     */
+    public void startTick(final double maxMillis, final double averageTickMillis, final double targetTickMillis) {
+        if (this.skippedThisTick) {
+            this.skippedTicks++;
+            this.skippedThisTick = false;
+        }
+        if (averageTickMillis > targetTickMillis) {
+            this.scale = Math.max(SpawnBudget.MIN_SCALE, this.scale * SpawnBudget.DECREASE_FACTOR);
+        } else {
+            this.scale = Math.min(1.0D, this.scale + SpawnBudget.RECOVERY_STEP);
+        }
+        this.allowance = maxMillis <= 0 ? Long.MAX_VALUE : (long) (maxMillis * 1_000_000D * this.scale);
+        this.spent = 0;
+    }
+
+    /**
+     * Starts a spawn cycle if the current tick has budget left. Every cycle
+     * that was started has to be {@link #finish() finished}.
+     *
+     * @return True if the cycle may run
+     */
+    public boolean tryStart() {
+        if (this.spent >= this.allowance) {
+            this.skippedCycles++;
+            this.skippedThisTick = true;
+            return false;
+        }
+        this.attempts++;
+        this.cycleStart = this.clock.getAsLong();
+        return true;
+    }
+
+    public void recordSpawn() {
+        this.successes++;
+    }
+
+    public void finish() {
+        this.spent += this.clock.getAsLong() - this.cycleStart;
+    }
+
+    /**
+     * Gets the fraction of the configured budget that is currently granted.
+     *
+     * @return The scale, between 0.1 and 1
+     */
+    public double getScale() {
+        return this.scale;
+    }
+
+    public long getAttempts() {
+        return this.attempts;
+    }
+
+    public long getSuccesses() {
+        return this.successes;
+    }
+
+    /**
+     * Gets the number of spawn cycles that were skipped because the tick
+     * they were due in had run out of budget.
+     *
+     * @return The number of skipped spawn cycles
+     */
+    public long getSkippedCycles() {
+        return this.skippedCycles;
+    }
+
+    /**
+     * Gets the number of ticks that ran out of budget before every spawn
+     * cycle could run.
+     *
+     * @return The number of skipped ticks
+     */
+    public long getSkippedTicks() {
+        return this.skippedTicks;
+    }
+
+    public void resetMetrics() {
+        this.attempts = 0;
+        this.successes = 0;
+        this.skippedCycles = 0;
+        this.skippedTicks = 0;
+    }
+}
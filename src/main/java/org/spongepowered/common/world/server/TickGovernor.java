@@ -0,0 +1,322 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Gradually reduces the non-critical work of the most expensive worlds
+ * while the server can't keep up, and restores it once the server has
+ * caught up again.
+ *
+ * <p>The tick cost of every world is tracked as a moving average. Every
+ * evaluation interval the server is behind, the most expensive world that
+ * can still be throttled goes up one {@link #getLevel(Object) level}; every
+ * interval the server is comfortably ahead, the cheapest throttled world
+ * goes down one level. What a level means is up to the systems reading it,
+ * usually running their work {@link #getInterval(int) less often}.</p>
+ *
+ * <p>The governor is not synchronized. It is evaluated at the end of
+ * {@code MinecraftServer#tickServer}, and world tick costs are recorded and
+ * levels read while the worlds tick, all of which happens on the server
+ * thread.</p>
+ *
+ * @param <K> The type of world key
+ */
+public final class TickGovernor<K> {
+
+    public static final TickGovernor<ResourceKey<Level>> INSTANCE = new TickGovernor<>();
+
+    private static final Logger LOGGER = LogManager.getLogger(TickGovernor.class);
+    private static final double COST_SMOOTHING = 0.05D;
+    private static final int MAX_RECENT_ADJUSTMENTS = 10;
+    /**
+     * Vanilla block entities do their periodic work on game times that are a
+     * multiple of this, beacons every 80 ticks and conduits every 40 ticks.
+     */
+    private static final int ALIGNED_TICK_PERIOD = 40;
+
+    private final Map<K, WorldLoad> worlds = new LinkedHashMap<>();
+    private final Deque<Adjustment<K>> recentAdjustments = new ArrayDeque<>();
+    private List<String> throttledBlockEntityIds = Collections.emptyList();
+    private Set<BlockEntityType<?>> throttledBlockEntities = Collections.emptySet();
+    private boolean behind;
+    private boolean throttling;
+    private int ticksSinceEvaluation;
+
+    /**
+     * Gets how many times less often throttled work runs at the given level.
+     *
+     * @param level The level
+     * @return The interval, a power of two
+     */
+    public static int getInterval(final int level) {
+        return 1 << level;
+    }
+
+    /**
+     * Gets whether throttled work should run on the given game time.
+     *
+     * <p>Throttled work is spread over the {@link #getInterval(int) interval}
+     * by its phase, but always runs on game times that are a multiple of
+     * {@link #ALIGNED_TICK_PERIOD}, so work that checks the game time itself
+     * is never skipped entirely.</p>
+     *
+     * @param gameTime The game time of the world
+     * @param phase The phase of the work, for example a hash of its position
+     * @param level The level of the world
+     * @return True if the work should run
+     */
+    public static boolean shouldRun(final long gameTime, final int phase, final int level) {
+        return level == 0
+            || gameTime % TickGovernor.ALIGNED_TICK_PERIOD == 0
+            || Math.floorMod(gameTime + phase, (long) TickGovernor.getInterval(level)) == 0;
+    }
+
+    public void recordWorldTick(final K world, final long nanos) {
+        this.worlds.computeIfAbsent(world, k -> new WorldLoad()).record(nanos);
+    }
+
+    /**
+     * Removes a world, for example because it was unloaded.
+     *
+     * @param world The world
+     */
+    public void removeWorld(final K world) {
+        this.worlds.remove(world);
+        this.updateThrottling();
+    }
+
+    public int getLevel(final K world) {
+        final @Nullable WorldLoad load = this.worlds.get(world);
+        return load == null ? 0 : load.level;
+    }
+
+    /**
+     * Gets whether the average tick time was above the target on the last
+     * {@link #tick tick}.
+     *
+     * @return True if the server is behind
+     */
+    public boolean isBehind() {
+        return this.behind;
+    }
+
+    /**
+     * Gets whether any world is currently throttled.
+     *
+     * @return True if a world is throttled
+     */
+    public boolean isThrottling() {
+        return this.throttling;
+    }
+
+    /**
+     * Resolves the block entity types whose ticking is throttled, if the
+     * configured ids changed since they were last resolved.
+     *
+     * @param ids The ids of the block entity types
+     */
+    public void setThrottledBlockEntities(final List<String> ids) {
+        if (ids.equals(this.throttledBlockEntityIds)) {
+            return;
+        }
+        this.throttledBlockEntityIds = new ArrayList<>(ids);
+        final Set<BlockEntityType<?>> types = new ReferenceOpenHashSet<>();
+        for (final String id : ids) {
+            final @Nullable ResourceLocation location = ResourceLocation.tryParse(id);
+            final Optional<BlockEntityType<?>> type = location == null ? Optional.empty() : Registry.BLOCK_ENTITY_TYPE.getOptional(location);
+            if (type.isPresent()) {
+                types.add(type.get());
+            } else {
+                TickGovernor.LOGGER.warn("Unknown block entity type '{}' in the throttled block entities of the tick governor", id);
+            }
+        }
+        this.throttledBlockEntities = types;
+    }
+
+    public boolean isThrottled(final BlockEntityType<?> type) {
+        return this.throttledBlockEntities.contains(type);
+    }
+
+    /**
+     * Evaluates the load of the server, to be called once every tick.
+     *
+     * @param averageTickMillis The current average tick time
+     * @param targetTickMillis The average tick time above which worlds are
+     *     throttled
+     * @param recoveryTickMillis The average tick time below which worlds
+     *     are restored
+     * @param evaluationInterval The number of ticks between adjustments
+     * @param maxLevel The highest level a world can be throttled to
+     */
+    public void tick(final double averageTickMillis, final double targetTickMillis, final double recoveryTickMillis,
+            final int evaluationInterval, final int maxLevel) {
+        this.behind = averageTickMillis > targetTickMillis;
+        if (++this.ticksSinceEvaluation < evaluationInterval) {
+            return;
+        }
+        this.ticksSinceEvaluation = 0;
+
+        Map.@Nullable Entry<K, WorldLoad> candidate = null;
+        if (this.behind) {
+            for (final Map.Entry<K, WorldLoad> entry : this.worlds.entrySet()) {
+                if (entry.getValue().level < maxLevel
+                        && (candidate == null || entry.getValue().averageNanos > candidate.getValue().averageNanos)) {
+                    candidate = entry;
+                }
+            }
+            if (candidate != null) {
+                this.adjust(candidate.getKey(), candidate.getValue(), candidate.getValue().level + 1, averageTickMillis);
+            }
+        } else if (averageTickMillis < recoveryTickMillis) {
+            for (final Map.Entry<K, WorldLoad> entry : this.worlds.entrySet()) {
+                if (entry.getValue().level > 0
+                        && (candidate == null || entry.getValue().averageNanos < candidate.getValue().averageNanos)) {
+                    candidate = entry;
+                }
+            }
+            if (candidate != null) {
+                this.adjust(candidate.getKey(), candidate.getValue(), candidate.getValue().level - 1, averageTickMillis);
+            }
+        }
+    }
+
+    /**
+     * Restores every world to its default, for example because the governor
+     * was disabled.
+     *
+     * @param averageTickMillis The current average tick time
+     */
+    public void reset(final double averageTickMillis) {
+        this.behind = false;
+        this.ticksSinceEvaluation = 0;
+        for (final Map.Entry<K, WorldLoad> entry : this.worlds.entrySet()) {
+            if (entry.getValue().level != 0) {
+                this.adjust(entry.getKey(), entry.getValue(), 0, averageTickMillis);
+            }
+        }
+    }
+
+    public Map<K, Integer> getLevels() {
+        final Map<K, Integer> levels = new LinkedHashMap<>();
+        this.worlds.forEach((world, load) -> levels.put(world, load.level));
+        return levels;
+    }
+
+    public List<Adjustment<K>> getRecentAdjustments() {
+        return new ArrayList<>(this.recentAdjustments);
+    }
+
+    private void adjust(final K world, final WorldLoad load, final int level, final double averageTickMillis) {
+        final Adjustment<K> adjustment = new Adjustment<>(world, load.level, level, averageTickMillis, load.averageNanos / 1_000_000D);
+        load.level = level;
+        this.updateThrottling();
+        if (this.recentAdjustments.size() == TickGovernor.MAX_RECENT_ADJUSTMENTS) {
+            this.recentAdjustments.removeFirst();
+        }
+        this.recentAdjustments.addLast(adjustment);
+        TickGovernor.LOGGER.info("Tick governor: {}", adjustment);
+    }
+
+    private void updateThrottling() {
+        boolean throttling = false;
+        for (final WorldLoad load : this.worlds.values()) {
+            if (load.level > 0) {
+                throttling = true;
+                break;
+            }
+        }
+        this.throttling = throttling;
+    }
+
+    private static final class WorldLoad {
+
+        double averageNanos = -1;
+        int level;
+
+        void record(final long nanos) {
+            if (this.averageNanos < 0) {
+                this.averageNanos = nanos;
+            } else {
+                this.averageNanos += (nanos - this.averageNanos) * TickGovernor.COST_SMOOTHING;
+            }
+        }
+    }
+
+    public static final class Adjustment<K> {
+
+        private final K world;
+        private final int fromLevel;
+        private final int toLevel;
+        private final double averageTickMillis;
+        private final double worldTickMillis;
+
+        Adjustment(final K world, final int fromLevel, final int toLevel, final double averageTickMillis, final double worldTickMillis) {
+            this.world = world;
+            this.fromLevel = fromLevel;
+            this.toLevel = toLevel;
+            this.averageTickMillis = averageTickMillis;
+            this.worldTickMillis = worldTickMillis;
+        }
+
+        public K getWorld() {
+            return this.world;
+        }
+
+        public int getFromLevel() {
+            return this.fromLevel;
+        }
+
+        public int getToLevel() {
+            return this.toLevel;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s from level %d to %d (average tick %.2fms, world tick %.2fms)",
+                    this.toLevel > this.fromLevel ? "throttled" : "restored", this.world, this.fromLevel, this.toLevel,
+                    this.averageTickMillis, this.worldTickMillis);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.world.entity.Entity;
+import org.spongepowered.common.bridge.optimization.OptimizedMapDataBridge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drives the maps of the map optimization. Instead of every holding player
+ * refreshing every map it carries on every tick, the holders of all maps
+ * are refreshed in one pass on the server tick, and the colours of a map
+ * held in hand are recomputed less often the more players are online.
+ *
+ * <p>Maps are tracked from player and item frame ticks and ticked at the
+ * end of the server tick, so the tracked maps are not synchronized. They
+ * belong to the running server and are dropped when it stops.</p>
+ */
+public final class OptimizedMapTicker {
+
+    public static final OptimizedMapTicker INSTANCE = new OptimizedMapTicker();
+
+    // Item frames send their map every 10 ticks, see ServerEntity#sendChanges
+    public static final int FRAME_UPDATE_INTERVAL = 10;
+
+    // Every additional this many online players space out the map updates by another tick
+    private static final int PLAYERS_PER_INTERVAL_TICK = 8;
+    private static final int MAX_INTERVAL = 4;
+
+    private final Set<OptimizedMapDataBridge> activeMaps = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<OptimizedMapDataBridge> ticking = new ArrayList<>();
+    private int interval = 1;
+    private int tickCount;
+
+    private OptimizedMapTicker() {
+    }
+
+    /**
+     * Registers a map which gained a holding player, to be ticked until it
+     * has none left.
+     *
+     * @param map The map
+     */
+    public void track(final OptimizedMapDataBridge map) {
+        this.activeMaps.add(map);
+    }
+
+    /**
+     * Ticks the tracked maps, if they are due on this tick.
+     *
+     * @param tickCount The current server tick
+     * @param playerCount The number of online players
+     */
+    public void tick(final int tickCount, final int playerCount) {
+        this.tickCount = tickCount;
+        this.interval = Math.min(OptimizedMapTicker.MAX_INTERVAL, 1 + playerCount / OptimizedMapTicker.PLAYERS_PER_INTERVAL_TICK);
+        if (tickCount % this.interval != 0 || this.activeMaps.isEmpty()) {
+            return;
+        }
+        // Ticking a map may start tracking another one
+        this.ticking.addAll(this.activeMaps);
+        for (final OptimizedMapDataBridge map : this.ticking) {
+            if (!map.mapOptimizationBridge$tickMap()) {
+                this.activeMaps.remove(map);
+            }
+        }
+        this.ticking.clear();
+    }
+
+    /**
+     * Drops all tracked maps, along with the levels and players they hold on
+     * to, once the server stopped.
+     */
+    public void clear() {
+        this.activeMaps.clear();
+        this.ticking.clear();
+        this.interval = 1;
+        this.tickCount = 0;
+    }
+
+    /**
+     * Gets whether the colours of a map held by the given entity should be
+     * recomputed on this tick. Holders are spread over the interval by their
+     * entity id, so not all of them update on the same tick.
+     *
+     * @param holder The entity holding the map
+     * @return Whether the colours should be updated
+     */
+    public boolean shouldUpdateColors(final Entity holder) {
+        return (this.tickCount + holder.getId()) % this.interval == 0;
+    }
+
+    /**
+     * Gets whether a holder last updated by an item frame on the given tick
+     * is still looking at that frame. Item frames only update their viewers
+     * every {@link #FRAME_UPDATE_INTERVAL} ticks, so their holders are kept
+     * until a whole frame update window passed without an update, as a
+     * fresh holder would send the whole map again.
+     *
+     * @param lastFramedTick The tick an item frame last updated the holder
+     * @return Whether the holder should be kept
+     */
+    public boolean isViewingFrame(final int lastFramedTick) {
+        return lastFramedTick >= 0 && this.tickCount - lastFramedTick <= OptimizedMapTicker.FRAME_UPDATE_INTERVAL + this.interval;
+    }
+
+    /**
+     * Gets the current server tick.
+     *
+     * @return The tick
+     */
+    public int getTickCount() {
+        return this.tickCount;
+    }
+
+    /**
+     * Gets the number of ticks between two passes over the maps.
+     *
+     * @return The interval
+     */
+    public int getInterval() {
+        return this.interval;
+    }
+
+}
@@ -33,8 +33,10 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.server.SpongeWorldManager;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryIteratorException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
@@ -147,7 +149,15 @@ public void saveSpongePlayerData(final UUID uniqueId) {
 
         @Nullable final SpongePlayerData data = this.playerDataByUniqueId.get(uniqueId);
         if (data != null) {
-            this.saveFile(uniqueId.toString(), this.createCompoundFor(data));
+            // Snapshot on the calling thread, the disk write happens behind the tick
+            final Path directory = this.playersDirectory;
+            if (directory == null) {
+                SpongeCommon.getLogger().error("Failed to save player data for [{}]! Player data has not been loaded yet.", uniqueId);
+                return;
+            }
+            final String id = uniqueId.toString();
+            final CompoundTag compound = this.createCompoundFor(data);
+            WriteBehindQueue.INSTANCE.submit(directory.resolve(id + ".dat"), () -> SpongePlayerDataManager.saveFile(directory, id, compound));
         } else {
             SpongeCommon.getLogger().error("Couldn't find a player data for the uuid: " + uniqueId.toString());
         }
@@ -157,15 +167,23 @@ private CompoundTag createCompoundFor(final SpongePlayerData data) {
         return NBTTranslator.INSTANCE.translate(data.toContainer());
     }
 
-    private void saveFile(final String id, final CompoundTag compound) {
+    private static void saveFile(final Path directory, final String id, final CompoundTag compound) {
         try {
             // Ensure that where we want to put this at ALWAYS exists
-            Files.createDirectories(this.playersDirectory);
-
-            final Path finalDatPath = this.playersDirectory.resolve(id + ".dat");
-            final Path newDatPath = this.playersDirectory.resolve(id + ".dat.tmp");
-            try (final OutputStream stream = Files.newOutputStream(newDatPath, StandardOpenOption.CREATE)) {
-                NbtIo.writeCompressed(compound, stream);
+            Files.createDirectories(directory);
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            NbtIo.writeCompressed(compound, bytes);
+
+            final Path finalDatPath = directory.resolve(id + ".dat");
+            final Path newDatPath = directory.resolve(id + ".dat.tmp");
+            try (final FileChannel channel = FileChannel.open(newDatPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
             }
             Files.move(newDatPath, finalDatPath, StandardCopyOption.REPLACE_EXISTING);
         } catch (Exception e) {
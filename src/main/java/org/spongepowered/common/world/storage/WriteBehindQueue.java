@@ -0,0 +1,175 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Writes Sponge owned side data, such as player data and world configs, on
+ * a background thread.
+ *
+ * <p>Callers snapshot their data on the main thread and {@link #submit}
+ * the write of that snapshot. Writes are keyed by what they write to, and a
+ * write that replaces one still waiting for the same key is only performed
+ * once, with the latest snapshot. Writes run one at a time, in the order
+ * their keys were last submitted.</p>
+ */
+public final class WriteBehindQueue {
+
+    public static final WriteBehindQueue INSTANCE = new WriteBehindQueue(Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge Data Writer")
+            .setDaemon(true)
+            .build()));
+
+    private static final Logger LOGGER = LogManager.getLogger(WriteBehindQueue.class);
+
+    /**
+     * A write of a snapshot that was taken earlier.
+     */
+    @FunctionalInterface
+    public interface Write {
+
+        void write() throws Exception;
+    }
+
+    private final Executor executor;
+    // Guarded by this
+    private final Map<Object, Write> pending = new LinkedHashMap<>();
+    // Whether a drain of the pending writes is queued or running, guarded by this
+    private boolean draining;
+    // The key of the write that is currently performed, guarded by this
+    private @Nullable Object writing;
+
+    WriteBehindQueue(final Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Submits a write, replacing a write for the same key that has not
+     * started yet.
+     *
+     * @param key The key of what is written, for example its file
+     * @param write The write
+     */
+    public void submit(final Object key, final Write write) {
+        synchronized (this) {
+            // Re-insert to move the key to the back
+            this.pending.remove(key);
+            this.pending.put(key, write);
+            if (this.draining) {
+                return;
+            }
+            this.draining = true;
+        }
+        this.executor.execute(this::drain);
+    }
+
+    /**
+     * Blocks until every submitted write has been performed.
+     */
+    public void flush() {
+        boolean interrupted = false;
+        synchronized (this) {
+            while (this.draining) {
+                try {
+                    this.wait();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Drops the pending write for the given key, and waits for a write of
+     * it that already started. Used before writing the same target
+     * synchronously, so an older snapshot can't overwrite it afterwards.
+     *
+     * @param key The key of what is written
+     */
+    public void discard(final Object key) {
+        boolean interrupted = false;
+        synchronized (this) {
+            this.pending.remove(key);
+            while (key.equals(this.writing)) {
+                try {
+                    this.wait();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public synchronized int size() {
+        return this.pending.size();
+    }
+
+    private void drain() {
+        while (true) {
+            final Object key;
+            final Write write;
+            synchronized (this) {
+                final Iterator<Map.Entry<Object, Write>> it = this.pending.entrySet().iterator();
+                if (!it.hasNext()) {
+                    this.draining = false;
+                    this.notifyAll();
+                    return;
+                }
+                final Map.Entry<Object, Write> next = it.next();
+                key = next.getKey();
+                write = next.getValue();
+                it.remove();
+                this.writing = key;
+            }
+            try {
+                write.write();
+            } catch (final Throwable t) {
+                // Keep draining, a failed write must not stall every write after it
+                WriteBehindQueue.LOGGER.error("Failed to write Sponge data for {}", key, t);
+            } finally {
+                synchronized (this) {
+                    this.writing = null;
+                    this.notifyAll();
+                }
+            }
+        }
+    }
+}
@@ -24,13 +24,24 @@
  */
 package org.spongepowered.common.world.teleport;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.inject.Singleton;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteMaps;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.teleport.TeleportHelper;
-import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.teleport.TeleportHelperFilter;
 import org.spongepowered.api.world.teleport.TeleportHelperFilters;
@@ -40,21 +51,37 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
 
 @Singleton
 public final class SpongeTeleportHelper implements TeleportHelper {
 
+    // Search cubes larger than this are sorted for every search instead of being kept around.
+    private static final int MAX_CACHED_OFFSETS = 1 << 20;
+    // The largest search cube whose offsets still fit in an array.
+    private static final long MAX_OFFSETS = Integer.MAX_VALUE - 8;
+
+    private static final byte SAFE_FLOOR = 1;
+    private static final byte SAFE_BODY = 2;
+
+    private final Cache<Long, int[]> sortedOffsets = Caffeine.newBuilder()
+            .maximumSize(8)
+            .build();
+
     @Override
     public Optional<ServerLocation> getSafeLocation(ServerLocation location, int height, int width, int distanceToDrop,
             TeleportHelperFilter filter, TeleportHelperFilter... additionalFilters) {
+        checkArgument(height >= 0 && width >= 0, "The height and width of the search must not be negative");
         final ServerWorld world = location.getWorld();
         final Set<TeleportHelperFilter> filters = Sets.newHashSet(additionalFilters);
         filters.add(filter);
@@ -64,152 +91,249 @@ public Optional<ServerLocation> getSafeLocation(ServerLocation location, int hei
             filters.add(TeleportHelperFilters.CONFIG.get());
         }
 
-        // Get the vectors to check, and get the block types with them.
-        // The vectors should be sorted by distance from the centre of the checking region, so
-        // this makes it easier to try to get close, because we can just iterate and get progressively further out.
-        Optional<Vector3i> result = this.getSafeLocation(world, this.getBlockLocations(location, height, width), distanceToDrop, filters);
+        final Optional<Vector3i> result = this.getSafeLocation(world, location.getBlockPosition(), height, width, distanceToDrop, filters);
         return result.map(vector3i -> ServerLocation.of(world, vector3i.toDouble().add(0.5, 0, 0.5)));
     }
 
-    private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int height, int width) {
+    /**
+     * Gets the offsets from the centre of a search cube, sorted by distance from the centre of the
+     * checking region. This makes it easier to try to get close, because we can just iterate and get
+     * progressively further out. Ties prefer changes in Y over X and Z, and higher over lower locations.
+     *
+     * <p>Offsets are encoded as the index of the offset within the cube, iterating y, then x,
+     * then z. The sort is stable, so the order of equal offsets is the iteration order.</p>
+     */
+    private int[] getSortedOffsets(final int height, final int width) {
+        final long size = (2L * height + 1) * (2L * width + 1) * (2L * width + 1);
+        if (size > SpongeTeleportHelper.MAX_CACHED_OFFSETS) {
+            return SpongeTeleportHelper.sortOffsets(height, width, (int) size);
+        }
+        return this.sortedOffsets.get(((long) height << 32) | width, k -> SpongeTeleportHelper.sortOffsets(height, width, (int) size));
+    }
+
+    private static int[] sortOffsets(final int height, final int width, final int size) {
+        final int side = 2 * width + 1;
+        final int[] offsets = new int[size];
+        for (int i = 0; i < size; i++) {
+            offsets[i] = i;
+        }
+        IntArrays.mergeSort(offsets, (a, b) -> {
+            final int ay = a / (side * side) - height;
+            final int by = b / (side * side) - height;
+            final int ax = (a / side) % side - width;
+            final int bx = (b / side) % side - width;
+            final int az = a % side - width;
+            final int bz = b % side - width;
+            // The squared distances of wide searches don't fit in an int
+            int compare = Long.compare((long) ax * ax + (long) ay * ay + (long) az * az, (long) bx * bx + (long) by * by + (long) bz * bz);
+            if (compare == 0) {
+                compare = Integer.compare(Math.abs(by), Math.abs(ay));
+            }
+            return compare == 0 ? Integer.compare(by, ay) : compare;
+        });
+        return offsets;
+    }
+
+    private Optional<Vector3i> getSafeLocation(final ServerWorld world, final Vector3i centre, final int searchHeight, final int width,
+            final int floorDistanceCheck, final Set<TeleportHelperFilter> filters) {
         // We don't want to warp outside of the world border, so we want to check that we're within it.
-        final WorldBorder worldBorder = (WorldBorder) worldLocation.getWorld().getProperties().worldBorder();
-        int worldBorderMinX = GenericMath.floor(worldBorder.getMinX());
-        int worldBorderMinZ = GenericMath.floor(worldBorder.getMinZ());
-        int worldBorderMaxX = GenericMath.floor(worldBorder.getMaxX());
-        int worldBorderMaxZ = GenericMath.floor(worldBorder.getMaxZ());
+        final WorldBorder worldBorder = (WorldBorder) world.getProperties().worldBorder();
+        final int worldBorderMinX = GenericMath.floor(worldBorder.getMinX());
+        final int worldBorderMinZ = GenericMath.floor(worldBorder.getMinZ());
+        final int worldBorderMaxX = GenericMath.floor(worldBorder.getMaxX());
+        final int worldBorderMaxZ = GenericMath.floor(worldBorder.getMaxZ());
 
         // Get the World and get the maximum Y value.
-        int worldMaxY = worldLocation.getWorld().getBlockMax().getY();
-
-        Vector3i vectorLocation = worldLocation.getBlockPosition();
+        final int worldMaxY = world.getBlockMax().getY();
+        // Offsets beyond the world height are never checked, so don't build or sort them either.
+        final int height = (int) Math.min(searchHeight, Math.max(Math.abs((long) centre.getY()), Math.abs((long) centre.getY() - worldMaxY)));
+        checkArgument((2L * height + 1) * (2L * width + 1) * (2L * width + 1) <= SpongeTeleportHelper.MAX_OFFSETS,
+                "The search cube of height %s and width %s is too large", height, width);
 
         // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
         // world border and the world height.
-        int minY = GenericMath.clamp(vectorLocation.getY() - height, 0, worldMaxY);
-        int maxY = GenericMath.clamp(vectorLocation.getY() + height, 0, worldMaxY);
-
-        int minX = GenericMath.clamp(vectorLocation.getX() - width, worldBorderMinX, worldBorderMaxX);
-        int maxX = GenericMath.clamp(vectorLocation.getX() + width, worldBorderMinX, worldBorderMaxX);
-
-        int minZ = GenericMath.clamp(vectorLocation.getZ() - width, worldBorderMinZ, worldBorderMaxZ);
-        int maxZ = GenericMath.clamp(vectorLocation.getZ() + width, worldBorderMinZ, worldBorderMaxZ);
-
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
-                }
+        final int minY = GenericMath.clamp(centre.getY() - height, 0, worldMaxY);
+        final int maxY = GenericMath.clamp(centre.getY() + height, 0, worldMaxY);
+        final int minX = GenericMath.clamp(centre.getX() - width, worldBorderMinX, worldBorderMaxX);
+        final int maxX = GenericMath.clamp(centre.getX() + width, worldBorderMinX, worldBorderMaxX);
+        final int minZ = GenericMath.clamp(centre.getZ() - width, worldBorderMinZ, worldBorderMaxZ);
+        final int maxZ = GenericMath.clamp(centre.getZ() + width, worldBorderMinZ, worldBorderMaxZ);
+
+        final Search search = new Search((Level) world);
+        final int side = 2 * width + 1;
+        for (final int offset : this.getSortedOffsets(height, width)) {
+            final int x = centre.getX() + (offset / side) % side - width;
+            final int y = centre.getY() + offset / (side * side) - height;
+            final int z = centre.getZ() + offset % side - width;
+            if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) {
+                continue;
+            }
+            final Vector3i currentTarget = new Vector3i(x, y, z);
+            if (this.isSafeLocation(world, currentTarget, floorDistanceCheck, filters, search)) {
+                return Optional.of(currentTarget);
             }
         }
-
-        Comparator<Vector3i> c = Comparator.comparingInt(vectorLocation::distanceSquared);
-
-        // The compiler seems to need this to be a new line.
-        // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.getY() - x.getY())).thenComparing(x -> -x.getY());
-
-        // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(c);
+        return Optional.empty();
     }
 
-    private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> positionsToCheck, int floorDistanceCheck,
-            Collection<TeleportHelperFilter> filters) {
-        // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
-
-        return positionsToCheck.filter(currentTarget -> {
-            List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
-            for (TeleportHelperFilter filter : filters) {
-                // If any return Tristate.FALSE, we're not safe.
-                Tristate isValid = filter.isValidLocation(world, currentTarget);
-                if (isValid == Tristate.FALSE) {
-                    // Completely fails the AND check at this point.
-                    return false;
-                }
-
-                if (isValid == Tristate.UNDEFINED) {
-                    undefinedResults.add(filter);
-                }
+    private boolean isSafeLocation(final ServerWorld world, final Vector3i currentTarget, final int floorDistanceCheck,
+            final Collection<TeleportHelperFilter> filters, final Search search) {
+        final List<TeleportHelperFilter> undefinedResults = search.undefinedResults;
+        undefinedResults.clear();
+        for (final TeleportHelperFilter filter : filters) {
+            // If any return Tristate.FALSE, we're not safe.
+            final Tristate isValid = filter.isValidLocation(world, currentTarget);
+            if (isValid == Tristate.FALSE) {
+                // Completely fails the AND check at this point.
+                return false;
             }
 
-            // If we don't have any undefined results, then we return true here.
-            if (undefinedResults.isEmpty()) {
-                return true;
+            if (isValid == Tristate.UNDEFINED) {
+                undefinedResults.add(filter);
             }
+        }
 
-            // Get the block, add it to the cache.
-            BlockData block = this.getBlockData(currentTarget, world, blockCache, undefinedResults);
+        // If we don't have any undefined results, then we return true here.
+        if (undefinedResults.isEmpty()) {
+            return true;
+        }
 
-            // If the block isn't safe, no point in continuing on this run.
-            if (block.isSafeBody) {
+        // Only the filters with undefined results check the materials of this location.
+        search.selectFilters(undefinedResults);
 
-                // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
-                if (this.getBlockData(
-                    currentTarget.add(0, 1, 0), world, blockCache, undefinedResults).isSafeBody
-                        && (floorDistanceCheck <= 0 || this.isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck))) {
-
-                    // This position should be safe. Get the center of the block to spawn into.
-                    return true;
-                }
-            }
+        final int x = currentTarget.getX();
+        final int y = currentTarget.getY();
+        final int z = currentTarget.getZ();
 
+        // Everything above the surface of the column is air, so if air isn't a floor there is nothing to land on.
+        if (floorDistanceCheck > 0 && !search.isAirSafeFloor() && y - floorDistanceCheck > search.getSurfaceY(x, z)) {
             return false;
-        }).findFirst();
+        }
+
+        // If the block isn't safe, no point in continuing on this run.
+        // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
+        return search.isSafeBody(x, y, z) && search.isSafeBody(x, y + 1, z)
+                && (floorDistanceCheck <= 0 || this.isFloorSafe(x, y, z, search, floorDistanceCheck));
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
-            int floorDistanceCheck) {
+    private boolean isFloorSafe(final int x, final int y, final int z, final Search search, final int floorDistanceCheck) {
         for (int i = 1; i < floorDistanceCheck; ++i) {
-            BlockData data = this.getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
+            final byte data = search.getBlockData(x, y - i, z);
 
             // If it's a safe floor, we can just say yes now.
-            if (data.isSafeFloor) {
+            if ((data & SpongeTeleportHelper.SAFE_FLOOR) != 0) {
                 return true;
             }
 
             // If it's not safe for the body, then we don't want to go through it anyway.
-            if (!data.isSafeBody) {
+            if ((data & SpongeTeleportHelper.SAFE_BODY) == 0) {
                 return false;
             }
         }
 
         // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return this.getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
+        return (search.getBlockData(x, y - floorDistanceCheck, z) & SpongeTeleportHelper.SAFE_FLOOR) != 0;
     }
 
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
-        if (vector3i.getY() < 0) {
-            // Anything below this isn't safe, no point going further.
-            return new BlockData();
+    /**
+     * The block lookups of a single search, reading straight from the chunks
+     * and remembering the surface of every column that was looked at.
+     *
+     * <p>Filters are expected to only look at the block state for their
+     * material checks, so the results are remembered for the rest of the
+     * search. They are keyed by the filters which left a location undefined,
+     * as only those check its materials. They are not shared between
+     * searches, as searches may run concurrently and filters may change what
+     * they accept in between.</p>
+     */
+    private static final class Search {
+
+        final List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
+        private final Level level;
+        private final Map<Set<TeleportHelperFilter>, Reference2ByteMap<net.minecraft.world.level.block.state.BlockState>> materialsByFilters =
+                new HashMap<>();
+        private final Long2IntMap surfaces = new Long2IntOpenHashMap();
+        private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        private Set<TeleportHelperFilter> filters = ImmutableSet.of();
+        private Reference2ByteMap<net.minecraft.world.level.block.state.BlockState> materials = Reference2ByteMaps.emptyMap();
+        private boolean airIsSafeFloor;
+        @Nullable private LevelChunk chunk;
+
+        Search(final Level level) {
+            this.level = level;
         }
 
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
+        /**
+         * Selects the filters checking the materials of the next location,
+         * usually the same ones as for the previous location.
+         */
+        void selectFilters(final List<TeleportHelperFilter> filters) {
+            if (this.filters.size() == filters.size() && this.filters.containsAll(filters)) {
+                return;
+            }
+            this.filters = ImmutableSet.copyOf(filters);
+            this.materials = this.materialsByFilters.computeIfAbsent(this.filters, key -> {
+                final Reference2ByteMap<net.minecraft.world.level.block.state.BlockState> materials = new Reference2ByteOpenHashMap<>();
+                materials.defaultReturnValue((byte) -1);
+                return materials;
+            });
+            this.airIsSafeFloor = (this.getMaterial(Blocks.AIR.defaultBlockState()) & SpongeTeleportHelper.SAFE_FLOOR) != 0
+                    || (this.getMaterial(Blocks.CAVE_AIR.defaultBlockState()) & SpongeTeleportHelper.SAFE_FLOOR) != 0
+                    || (this.getMaterial(Blocks.VOID_AIR.defaultBlockState()) & SpongeTeleportHelper.SAFE_FLOOR) != 0;
         }
 
-        BlockData data = new BlockData(world.getBlock(vector3i), filters);
-        cache.put(vector3i, data);
-        return data;
-    }
+        boolean isAirSafeFloor() {
+            return this.airIsSafeFloor;
+        }
 
-    private class BlockData {
+        boolean isSafeBody(final int x, final int y, final int z) {
+            return (this.getBlockData(x, y, z) & SpongeTeleportHelper.SAFE_BODY) != 0;
+        }
 
-        private final boolean isSafeFloor;
-        private final boolean isSafeBody;
+        byte getBlockData(final int x, final int y, final int z) {
+            if (y < 0) {
+                // Anything below this isn't safe, no point going further.
+                return 0;
+            }
+            this.pos.set(x, y, z);
+            if (Level.isOutsideBuildHeight(this.pos)) {
+                return this.getMaterial(Blocks.VOID_AIR.defaultBlockState());
+            }
+            return this.getMaterial(this.getChunk(x, z).getBlockState(this.pos));
+        }
 
-        private BlockData() {
-            this.isSafeFloor = false;
-            this.isSafeBody = false;
+        int getSurfaceY(final int x, final int z) {
+            final long key = BlockPos.asLong(x, 0, z);
+            if (this.surfaces.containsKey(key)) {
+                return this.surfaces.get(key);
+            }
+            final int surface = this.getChunk(x, z).getHeight(Heightmap.Types.WORLD_SURFACE, x & 15, z & 15);
+            this.surfaces.put(key, surface);
+            return surface;
         }
 
-        private BlockData(BlockState blockState, Collection<TeleportHelperFilter> filters) {
-            this.isSafeFloor = filters.stream().allMatch(x -> x.isSafeFloorMaterial(blockState));
-            this.isSafeBody = filters.stream().allMatch(x -> x.isSafeBodyMaterial(blockState));
+        private LevelChunk getChunk(final int x, final int z) {
+            final LevelChunk chunk = this.chunk;
+            if (chunk != null && chunk.getPos().x == x >> 4 && chunk.getPos().z == z >> 4) {
+                return chunk;
+            }
+            return this.chunk = this.level.getChunk(x >> 4, z >> 4);
         }
 
+        private byte getMaterial(final net.minecraft.world.level.block.state.BlockState state) {
+            byte data = this.materials.getByte(state);
+            if (data == -1) {
+                data = 0;
+                if (this.filters.stream().allMatch(x -> x.isSafeFloorMaterial((BlockState) state))) {
+                    data |= SpongeTeleportHelper.SAFE_FLOOR;
+                }
+                if (this.filters.stream().allMatch(x -> x.isSafeBodyMaterial((BlockState) state))) {
+                    data |= SpongeTeleportHelper.SAFE_BODY;
+                }
+                this.materials.put(state, data);
+            }
+            return data;
+        }
     }
 
 }
@@ -388,7 +388,7 @@ public void sendMessage(final Identity identity, final Component message, final
         if (this.impl$isFake) {
             return;
         }
-        this.connection.send(new ClientboundChatPacket(SpongeAdventure.asVanilla(Objects.requireNonNull(message, "message")),
+        this.connection.send(new ClientboundChatPacket(SpongeAdventure.asVanillaShared(Objects.requireNonNull(message, "message")),
                 SpongeAdventure.asVanilla(Objects.requireNonNull(type, "type")), Objects.requireNonNull(identity, "identity").uuid()));
     }
 
@@ -397,7 +397,7 @@ public void sendActionBar(final Component message) {
         if (this.impl$isFake) {
             return;
         }
-        this.connection.send(new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.ACTIONBAR, SpongeAdventure.asVanilla(Objects.requireNonNull(message, "message"))));
+        this.connection.send(new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.ACTIONBAR, SpongeAdventure.asVanillaShared(Objects.requireNonNull(message, "message"))));
     }
 
     @Override
@@ -32,6 +32,7 @@
 import com.mojang.brigadier.tree.ArgumentCommandNode;
 import com.mojang.brigadier.tree.CommandNode;
 import com.mojang.brigadier.tree.RootCommandNode;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.EventContextKeys;
@@ -58,15 +59,20 @@
 import org.spongepowered.common.util.CommandUtil;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.SuggestionProviders;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.server.commands.AdvancementCommands;
 import net.minecraft.server.level.ServerPlayer;
 
@@ -83,10 +89,15 @@ public abstract class CommandsMixin implements CommandsBridge {
     }
     // @formatter:on
 
+    private static final int impl$MAX_CACHED_SUGGESTION_TREES = 64;
+
     private CauseStackManager.StackFrame impl$initFrame = null;
     private final WeakHashMap<ServerPlayer, Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>>> impl$playerNodeCache =
             new WeakHashMap<>();
     private SpongeCommandManager impl$commandManager;
+    private final Map<BitSet, RootCommandNode<SharedSuggestionProvider>> impl$suggestionTreeCache = new HashMap<>();
+    private int impl$suggestionTreeVersion = -1;
+    private @Nullable RootCommandNode<SharedSuggestionProvider> impl$suggestionTreeToSend;
 
     // We prepare our own dispatcher and commands manager, to redirect registrations to our system
     @Redirect(method = "<init>", at = @At(
@@ -297,18 +308,88 @@ public abstract class CommandsMixin implements CommandsBridge {
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.addContext(EventContextKeys.SUBJECT, (Subject) playerEntity);
             final CommandCause sourceToUse = ((CommandSourceBridge) p_197052_3_).bridge$withCurrentCause();
-            try {
-                this.impl$playerNodeCache.put(playerEntity, new IdentityHashMap<>());
-                // We use this because the redirects should be a 1:1 mapping (which is what this map is for).
-                final IdentityHashMap<CommandNode<CommandSourceStack>, CommandNode<SharedSuggestionProvider>> idMap = new IdentityHashMap<>(p_197052_4_);
-                this.shadow$fillUsableCommands(p_197052_1_, p_197052_2_, (CommandSourceStack) sourceToUse, idMap);
-            } finally {
-                this.impl$playerNodeCache.remove(playerEntity);
+            final Collection<CommandNode<SharedSuggestionProvider>> nonBrigSuggestions = this.impl$commandManager.getNonBrigadierSuggestions(sourceToUse);
+            if (!nonBrigSuggestions.isEmpty()) {
+                // Redirects to the root (such as "execute run") need to see these nodes too, so the tree must be
+                // built for this player alone.
+                this.impl$fillUsableCommands(p_197052_1_, p_197052_2_, (CommandSourceStack) sourceToUse, p_197052_4_, playerEntity);
+                for (final CommandNode<SharedSuggestionProvider> node : nonBrigSuggestions) {
+                    p_197052_2_.addChild(node);
+                }
+                return;
+            }
+
+            final int treeVersion = this.impl$commandManager.getCommandTreeVersion();
+            if (this.impl$suggestionTreeVersion != treeVersion) {
+                this.impl$suggestionTreeCache.clear();
+                this.impl$suggestionTreeVersion = treeVersion;
+            }
+
+            // Players that can use exactly the same nodes get exactly the same tree, so we only build it once
+            // for each distinct set of permission results.
+            final BitSet usableNodes = new BitSet();
+            this.impl$collectUsableNodes(p_197052_1_, (CommandSourceStack) sourceToUse, usableNodes, 0, Collections.newSetFromMap(new IdentityHashMap<>()));
+            RootCommandNode<SharedSuggestionProvider> cachedRoot = this.impl$suggestionTreeCache.get(usableNodes);
+            if (cachedRoot == null) {
+                cachedRoot = new RootCommandNode<>();
+                final Map<CommandNode<CommandSourceStack>, CommandNode<SharedSuggestionProvider>> nodeMap = new HashMap<>();
+                nodeMap.put(p_197052_1_, cachedRoot);
+                this.impl$fillUsableCommands(p_197052_1_, cachedRoot, (CommandSourceStack) sourceToUse, nodeMap, playerEntity);
+                if (this.impl$suggestionTreeCache.size() >= CommandsMixin.impl$MAX_CACHED_SUGGESTION_TREES) {
+                    this.impl$suggestionTreeCache.clear();
+                }
+                this.impl$suggestionTreeCache.put(usableNodes, cachedRoot);
             }
-            for (final CommandNode<SharedSuggestionProvider> node : this.impl$commandManager.getNonBrigadierSuggestions(sourceToUse)) {
-                p_197052_2_.addChild(node);
+            // Redirects to the root (such as "execute run") point at the cached root, so it has to be sent as the
+            // root itself. Adding its children to the root of this player would serialize it as a second root node.
+            this.impl$suggestionTreeToSend = cachedRoot;
+        }
+    }
+
+    @Redirect(method = "sendCommands", at = @At(value = "NEW", target = "net/minecraft/network/protocol/game/ClientboundCommandsPacket"))
+    private ClientboundCommandsPacket impl$sendCachedSuggestionTree(final RootCommandNode<SharedSuggestionProvider> root) {
+        final @Nullable RootCommandNode<SharedSuggestionProvider> cachedRoot = this.impl$suggestionTreeToSend;
+        this.impl$suggestionTreeToSend = null;
+        return new ClientboundCommandsPacket(cachedRoot == null ? root : cachedRoot);
+    }
+
+    private void impl$fillUsableCommands(
+            final CommandNode<CommandSourceStack> rootCommandSource,
+            final CommandNode<SharedSuggestionProvider> rootSuggestion,
+            final CommandSourceStack source,
+            final Map<CommandNode<CommandSourceStack>, CommandNode<SharedSuggestionProvider>> commandNodeToSuggestionNode,
+            final ServerPlayer playerEntity) {
+        try {
+            this.impl$playerNodeCache.put(playerEntity, new IdentityHashMap<>());
+            // We use this because the redirects should be a 1:1 mapping (which is what this map is for).
+            final IdentityHashMap<CommandNode<CommandSourceStack>, CommandNode<SharedSuggestionProvider>> idMap = new IdentityHashMap<>(commandNodeToSuggestionNode);
+            this.shadow$fillUsableCommands(rootCommandSource, rootSuggestion, source, idMap);
+        } finally {
+            this.impl$playerNodeCache.remove(playerEntity);
+        }
+    }
+
+    /*
+     * Walks the tree in the same way fillUsableCommands does, recording the result of each permission check. Two sources
+     * that produce the same results will be sent the same tree.
+     */
+    private int impl$collectUsableNodes(
+            final CommandNode<CommandSourceStack> parent,
+            final CommandSourceStack source,
+            final BitSet usableNodes,
+            int index,
+            final Set<CommandNode<CommandSourceStack>> visited) {
+        for (final CommandNode<CommandSourceStack> child : this.impl$getChildrenFromNode(parent)) {
+            if (SpongeNodePermissionCache.canUse(parent instanceof RootCommandNode, this.impl$commandManager.getDispatcher(), child, source)) {
+                usableNodes.set(index++);
+                if (visited.add(child)) {
+                    index = this.impl$collectUsableNodes(child, source, usableNodes, index, visited);
+                }
+            } else {
+                index++;
             }
         }
+        return index;
     }
 
     @SuppressWarnings("unchecked")
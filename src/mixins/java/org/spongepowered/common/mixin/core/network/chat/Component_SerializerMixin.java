@@ -71,7 +71,7 @@ public abstract class Component_SerializerMixin {
     @Inject(method = "toJson", at = @At("HEAD"), cancellable = true)
     private static void impl$redirectSerialization(final net.minecraft.network.chat.Component component, final CallbackInfoReturnable<String> cir) {
         if (component instanceof AdventureTextComponent) {
-            cir.setReturnValue(GSON.toJson(((AdventureTextComponent) component).wrapped()));
+            cir.setReturnValue(((AdventureTextComponent) component).toJson(GSON));
         }
     }
 
@@ -37,6 +37,7 @@
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.network.ServerStatusResponseBridge;
 import org.spongepowered.common.network.status.SpongeFavicon;
+import org.spongepowered.common.network.status.SpongeStatusResponse;
 
 import java.io.IOException;
 
@@ -51,12 +52,19 @@ public abstract class ServerStatusMixin implements ServerStatusResponseBridge {
     private Component impl$descriptionText = Component.empty();
     @Nullable private ServerStatus.Players impl$playerBackup;
     @Nullable private Favicon impl$faviconHandle;
+    private volatile int impl$modificationCount;
+    @Nullable private volatile SpongeStatusResponse.Encoded impl$encoded;
 
     @Inject(method = "<init>", at = @At("RETURN"))
     private void impl$initializeDescriptionText(final CallbackInfo ci) {
         this.setDescription(null);
     }
 
+    @Inject(method = {"setPlayers", "setVersion"}, at = @At("RETURN"))
+    private void impl$markModifiedOnChange(final CallbackInfo ci) {
+        this.bridge$markModified();
+    }
+
     /**
      * @author minecrell - January 18th, 2015
      * @reason Use our Text API
@@ -72,6 +80,7 @@ public void setDescription(@Nullable final net.minecraft.network.chat.Component
             this.description = new TextComponent("");
             this.impl$descriptionText = Component.empty();
         }
+        this.bridge$markModified();
     }
 
     /**
@@ -93,6 +102,7 @@ public void setFavicon(@Nullable final String faviconBlob) {
                 throw new RuntimeException(e);
             }
         }
+        this.bridge$markModified();
     }
 
     @Override
@@ -103,6 +113,7 @@ public void setFavicon(@Nullable final String faviconBlob) {
     @Override
     public void bridge$setDescription(@Nullable final Component text) {
         this.impl$descriptionText = text == null ? Component.empty() : text;
+        this.bridge$markModified();
     }
 
     @Override
@@ -118,6 +129,7 @@ public void setFavicon(@Nullable final Favicon favicon) {
         } else {
             this.favicon = null;
         }
+        this.bridge$markModified();
     }
 
     @Override
@@ -128,5 +140,27 @@ public void setFavicon(@Nullable final Favicon favicon) {
     @Override
     public void bridge$setPlayerBackup(final ServerStatus.Players players) {
         this.impl$playerBackup = players;
+        this.bridge$markModified();
+    }
+
+    @Override
+    public int bridge$getModificationCount() {
+        return this.impl$modificationCount;
+    }
+
+    @Override
+    public void bridge$markModified() {
+        this.impl$modificationCount++;
+    }
+
+    @Override
+    @Nullable
+    public SpongeStatusResponse.Encoded bridge$getEncoded() {
+        return this.impl$encoded;
+    }
+
+    @Override
+    public void bridge$setEncoded(final SpongeStatusResponse.Encoded encoded) {
+        this.impl$encoded = encoded;
     }
 }
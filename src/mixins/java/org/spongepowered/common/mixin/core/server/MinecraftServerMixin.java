@@ -27,12 +27,14 @@
 import com.google.inject.Injector;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.status.ServerStatus;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.packs.repository.PackRepository;
 import net.minecraft.server.players.GameProfileCache;
 import net.minecraft.server.players.PlayerList;
+import net.minecraft.util.Mth;
 import net.minecraft.world.Difficulty;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.storage.LevelResource;
@@ -64,9 +66,11 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.adventure.NativeComponentRenderer;
+import org.spongepowered.common.applaunch.config.common.TickGovernorCategory;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.command.CommandSourceProviderBridge;
 import org.spongepowered.common.bridge.command.ICommandSourceBridge;
+import org.spongepowered.common.bridge.network.ServerStatusResponseBridge;
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
 import org.spongepowered.common.bridge.server.management.PlayerProfileCacheBridge;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
@@ -78,6 +82,8 @@
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.service.server.SpongeServerScopedServiceProvider;
+import org.spongepowered.common.world.server.TickGovernor;
+import org.spongepowered.common.world.storage.WriteBehindQueue;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -103,6 +109,8 @@ public abstract class MinecraftServerMixin implements SpongeServer, MinecraftSer
     @Shadow @Final private static Logger LOGGER;
     @Shadow private int tickCount;
     @Shadow @Final protected LevelStorageSource.LevelStorageAccess storageSource;
+    @Shadow @Final private ServerStatus status;
+    @Shadow @Final public long[] tickTimes;
 
     @Shadow public abstract CommandSourceStack shadow$createCommandSourceStack();
     @Shadow public abstract Iterable<ServerLevel> shadow$getAllLevels();
@@ -153,11 +161,34 @@ public Subject getSubject() {
         TimingsManager.FULL_SERVER_TICK.startTiming();
     }
 
+    @Inject(method = "tickServer", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/network/protocol/status/ServerStatus$Players;setSample([Lcom/mojang/authlib/GameProfile;)V",
+            shift = At.Shift.AFTER))
+    private void impl$markStatusModifiedOnPlayerSample(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        // The player sample is updated in place, which the status can't observe by itself
+        ((ServerStatusResponseBridge) this.status).bridge$markModified();
+    }
+
     @Inject(method = "tickServer", at = @At("TAIL"))
     private void impl$tickServerScheduler(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        this.impl$updateTickGovernor();
         this.getScheduler().tick();
     }
 
+    private void impl$updateTickGovernor() {
+        final TickGovernorCategory governor = SpongeConfigs.getCommon().get().optimizations.tickGovernor;
+        final double averageTickTime = Mth.average(this.tickTimes) * 1.0E-6D;
+        if (!governor.enabled) {
+            TickGovernor.INSTANCE.reset(averageTickTime);
+            this.getScheduler().setTaskBudget(Long.MAX_VALUE);
+            return;
+        }
+        TickGovernor.INSTANCE.setThrottledBlockEntities(governor.throttledBlockEntities);
+        TickGovernor.INSTANCE.tick(averageTickTime, governor.targetTickTime, governor.recoveryTickTime, governor.evaluationInterval,
+                governor.maxLevel);
+        this.getScheduler().setTaskBudget(TickGovernor.INSTANCE.isBehind() ? (long) (governor.schedulerTaskBudget * 1_000_000D) : Long.MAX_VALUE);
+    }
+
     @Override
     public CommandSourceStack bridge$getCommandSource(final Cause cause) {
         return this.shadow$createCommandSourceStack();
@@ -198,6 +229,13 @@ public String getServerModName() {
         TimingsManager.FULL_SERVER_TICK.stopTiming();
     }
 
+    @Inject(method = "stopServer",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/storage/LevelStorageSource$LevelStorageAccess;close()V"))
+    private void impl$flushBackgroundWrites(final CallbackInfo ci) {
+        // Anything still queued from the last saves must hit the disk before the overworld storage is closed
+        WriteBehindQueue.INSTANCE.flush();
+    }
+
     @Inject(method = "stopServer", at = @At(value = "TAIL"))
     private void impl$closeLevelSaveForOtherWorlds(final CallbackInfo ci) {
         for (final Map.Entry<ResourceKey<Level>, ServerLevel> entry : this.levels.entrySet()) {
@@ -257,8 +295,11 @@ public boolean saveAllChunks(final boolean suppressLog, final boolean flush, fin
                 // Not forced means this is an auto-save or a shut down, handle accordingly
 
                 // If the server isn't running or we hit Vanilla's save interval, save our configs
-                if (!this.shadow$isRunning() || this.tickCount % 6000 == 0) {
-                    ((ServerWorldInfoBridge) world.getLevelData()).bridge$configAdapter().save();
+                if (!this.shadow$isRunning()) {
+                    adapter.save();
+                } else if (this.tickCount % 6000 == 0) {
+                    // Auto-saves write the config off the main thread, the next auto-save coalesces with it if still pending
+                    adapter.scheduleSave();
                 }
 
                 final boolean canSaveAtAll = serializationBehavior != SerializationBehavior.NONE;
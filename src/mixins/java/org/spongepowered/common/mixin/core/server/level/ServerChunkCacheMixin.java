@@ -27,14 +27,20 @@
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
 import org.spongepowered.api.world.SerializationBehavior;
 import org.spongepowered.api.world.server.storage.ServerWorldProperties;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.accessor.server.level.ChunkMapAccessor;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.SpawnerCategory;
 
 @Mixin(ServerChunkCache.class)
 public abstract class ServerChunkCacheMixin {
@@ -51,4 +57,13 @@ public abstract class ServerChunkCacheMixin {
             ((ChunkMapAccessor) chunkManager).invoker$saveAllChunks(flush);
         }
     }
+
+    @Inject(method = "tickChunks", at = @At("HEAD"))
+    private void impl$startSpawnBudget(final CallbackInfo ci) {
+        final SpawnerCategory.BudgetSubCategory budget = SpongeGameConfigs.getForWorld(this.level).get().spawner.budget;
+        if (budget.enabled) {
+            final double averageTickTime = Mth.average(this.level.getServer().tickTimes) * 1.0E-6D;
+            ((ServerWorldBridge) this.level).bridge$spawnBudget().startTick(budget.maxMillisecondsPerTick, averageTickTime, budget.targetTickTime);
+        }
+    }
 }
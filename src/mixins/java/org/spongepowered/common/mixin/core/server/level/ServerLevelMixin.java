@@ -32,6 +32,7 @@
 import net.minecraft.server.bossevents.CustomBossEvents;
 import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.level.TicketType;
 import net.minecraft.server.level.progress.ChunkProgressListener;
 import net.minecraft.util.ProgressListener;
@@ -67,6 +68,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
+import org.spongepowered.common.effect.particle.ParticleViewerIndex;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.world.PlatformServerWorldBridge;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
@@ -80,9 +82,10 @@
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.mixin.core.world.level.LevelMixin;
 import org.spongepowered.common.registry.SpongeRegistryHolder;
+import org.spongepowered.common.world.server.SpawnBudget;
 import org.spongepowered.math.vector.Vector3d;
-import org.spongepowered.math.vector.Vector3i;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
@@ -106,6 +109,9 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerWorld
     private SpongeRegistryHolder impl$registerHolder;
     private ChunkProgressListener impl$chunkStatusListener;
     private Map<Entity, Vector3d> impl$rotationUpdates;
+    private final WeakReference<ServerLevel> impl$weakReference = new WeakReference<>((ServerLevel) (Object) this);
+    private final SpawnBudget impl$spawnBudget = new SpawnBudget();
+    private final ParticleViewerIndex<ServerPlayer> impl$particleViewerIndex = ParticleViewerIndex.forPlayers();
 
     private boolean impl$isManualSave = false;
 
@@ -247,7 +253,7 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerWorld
             return BlockSnapshot.empty();
         }
         final SpongeBlockSnapshotBuilder builder = SpongeBlockSnapshotBuilder.pooled();
-        builder.world((ServerLevel) (Object) this).position(new Vector3i(x, y, z));
+        builder.world((ServerLevel) (Object) this).position(pos);
         final net.minecraft.world.level.chunk.LevelChunk chunk = this.shadow$getChunkAt(pos);
         final net.minecraft.world.level.block.state.BlockState state = chunk.getBlockState(pos);
         builder.blockState(state);
@@ -262,6 +268,21 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerWorld
         return builder.build();
     }
 
+    @Override
+    public WeakReference<ServerLevel> bridge$weakReference() {
+        return this.impl$weakReference;
+    }
+
+    @Override
+    public SpawnBudget bridge$spawnBudget() {
+        return this.impl$spawnBudget;
+    }
+
+    @Override
+    public ParticleViewerIndex<ServerPlayer> bridge$particleViewerIndex() {
+        return this.impl$particleViewerIndex;
+    }
+
     @Override
     public ResourceKey bridge$getKey() {
         return (ResourceKey) (Object) this.shadow$dimension().location();
@@ -150,12 +150,28 @@ public abstract class ServerGamePacketListenerImplMixin implements NetworkManage
     // @formatter:on
 
     private int impl$ignorePackets;
+    private volatile int impl$latestSuggestionId;
 
     @Override
     public Connection bridge$getConnection() {
         return this.connection;
     }
 
+    /*
+     * The client only ever shows the response to its most recent suggestion request, so if a player is typing faster
+     * than we tick there's no point in completing the requests they've already sent a newer one for. Request ids
+     * only ever increase.
+     */
+    @Inject(method = "handleCustomCommandSuggestions", at = @At("HEAD"), cancellable = true)
+    private void impl$skipSupersededSuggestionRequests(final ServerboundCommandSuggestionPacket packet, final CallbackInfo ci) {
+        if (!this.server.isSameThread()) {
+            // Netty thread, the packet is about to be queued for the main thread.
+            this.impl$latestSuggestionId = packet.getId();
+        } else if (packet.getId() < this.impl$latestSuggestionId) {
+            ci.cancel();
+        }
+    }
+
     @Inject(method = "handleCustomCommandSuggestions", at = @At(value = "NEW", target = "com/mojang/brigadier/StringReader", remap = false),
             cancellable = true)
     private void impl$getSuggestionsFromNonBrigCommand(final ServerboundCommandSuggestionPacket packet, final CallbackInfo ci) {
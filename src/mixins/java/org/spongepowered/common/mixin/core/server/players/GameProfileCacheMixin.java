@@ -42,6 +42,7 @@
 import org.spongepowered.common.bridge.server.management.PlayerProfileCacheBridge;
 import org.spongepowered.common.bridge.server.management.PlayerProfileCache_ProfileEntryBridge;
 import org.spongepowered.common.profile.SpongeGameProfile;
+import org.spongepowered.common.user.SpongeUserManager;
 
 import java.util.Collections;
 import java.util.List;
@@ -156,6 +157,9 @@ public abstract class GameProfileCacheMixin implements PlayerProfileCacheBridge
     @Inject(method = "add", at = @At(value = "RETURN"))
     private void impl$UpdateCacheUsername(final com.mojang.authlib.GameProfile profile, final CallbackInfo ci) {
         ((SpongeServer) Sponge.getServer()).getUsernameCache().setUsername(profile.getId(), profile.getName());
+        if (profile.getName() != null) {
+            ((SpongeUserManager) Sponge.getServer().getUserManager()).onProfileCached(profile.getId(), profile.getName());
+        }
     }
 
     @Redirect(method = "lookupGameProfile",
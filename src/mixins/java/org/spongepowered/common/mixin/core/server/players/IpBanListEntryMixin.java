@@ -30,16 +30,17 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.server.management.IPBanEntryBridge;
+import org.spongepowered.common.util.IpSet;
 
 import javax.annotation.Nullable;
 import net.minecraft.server.players.IpBanListEntry;
 import java.net.InetAddress;
-import java.net.UnknownHostException;
 
 @Mixin(IpBanListEntry.class)
 public abstract class IpBanListEntryMixin extends BanListEntryMixin<String> implements IPBanEntryBridge {
 
     @Nullable private InetAddress impl$address;
+    private int impl$prefixLength;
 
     @Inject(method = "<init>(Ljava/lang/String;Ljava/util/Date;Ljava/lang/String;Ljava/util/Date;Ljava/lang/String;)V", at = @At("RETURN"))
     private void impl$UpdateInetAddress(final CallbackInfo ci) {
@@ -52,15 +53,29 @@ public abstract class IpBanListEntryMixin extends BanListEntryMixin<String> impl
     }
 
     private void setAddress() {
+        // The user of an entry may also be a CIDR range, banning every address within it
+        final IpSet network;
         try {
-            this.impl$address = InetAddress.getByName(this.shadow$getUser());
-        } catch (UnknownHostException e) {
+            network = IpSet.fromCidr(this.shadow$getUser());
+        } catch (final IllegalArgumentException e) {
             throw new IllegalStateException("Error parsing Ban IP address!", e);
         }
+        this.impl$address = network.getAddress();
+        this.impl$prefixLength = network.getPrefixLength();
+    }
+
+    @Override
+    public String bridge$getKey() {
+        return this.shadow$getUser();
     }
 
     @Override
     public InetAddress bridge$getAddress() {
         return this.impl$address;
     }
+
+    @Override
+    public int bridge$getPrefixLength() {
+        return this.impl$prefixLength;
+    }
 }
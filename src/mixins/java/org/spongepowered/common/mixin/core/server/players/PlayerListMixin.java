@@ -41,6 +41,8 @@
 import net.minecraft.server.bossevents.CustomBossEvents;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.minecraft.server.players.IpBanList;
+import net.minecraft.server.players.IpBanListEntry;
 import net.minecraft.server.players.PlayerList;
 import net.minecraft.world.level.GameType;
 import net.minecraft.world.level.Level;
@@ -49,6 +51,7 @@
 import net.minecraft.world.level.dimension.DimensionType;
 import org.apache.logging.log4j.Logger;
 import org.objectweb.asm.Opcodes;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.adventure.Audiences;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
@@ -59,6 +62,7 @@
 import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 import org.spongepowered.api.network.ServerSideConnection;
 import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.service.ban.Ban;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -84,6 +88,7 @@
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.math.vector.Vector3d;
 
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Instant;
 import java.util.Optional;
@@ -140,6 +145,27 @@ public abstract class PlayerListMixin implements PlayerListBridge {
         return compound;
     }
     
+    // The ban list only looks up bans of exactly the address, the ban service also matches range bans covering it
+    @Redirect(method = "canPlayerLogin", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/players/IpBanList;isBanned(Ljava/net/SocketAddress;)Z"))
+    private boolean impl$isIpBanned(final IpBanList ipBans, final SocketAddress address) {
+        if (!(address instanceof InetSocketAddress)) {
+            return ipBans.isBanned(address);
+        }
+        return Sponge.getServer().getServiceProvider().banService().isBanned(((InetSocketAddress) address).getAddress());
+    }
+
+    @Redirect(method = "canPlayerLogin",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/server/players/IpBanList;get(Ljava/net/SocketAddress;)Lnet/minecraft/server/players/IpBanListEntry;"))
+    private IpBanListEntry impl$getIpBan(final IpBanList ipBans, final SocketAddress address) {
+        if (address instanceof InetSocketAddress) {
+            final Optional<Ban.IP> ban = Sponge.getServer().getServiceProvider().banService().getBanFor(((InetSocketAddress) address).getAddress());
+            if (ban.isPresent() && ban.get() instanceof IpBanListEntry) {
+                return (IpBanListEntry) ban.get();
+            }
+        }
+        return ipBans.get(address);
+    }
+
     @Redirect(method = "placeNewPlayer",
         at = @At(value = "INVOKE", 
             target = "Lnet/minecraft/server/MinecraftServer;getLevel(Lnet/minecraft/resources/ResourceKey;)Lnet/minecraft/server/level/ServerLevel;"
@@ -32,16 +32,39 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.server.management.StoredUserListBridge;
 
 import java.io.File;
 import java.util.List;
 import net.minecraft.server.players.StoredUserList;
 
 @Mixin(StoredUserList.class)
-public abstract class StoredUserListMixin {
+public abstract class StoredUserListMixin implements StoredUserListBridge {
 
     @Shadow protected abstract String shadow$getKeyForUser(Object obj);
 
+    private volatile int impl$modificationCount;
+
+    @Override
+    public int bridge$getModificationCount() {
+        return this.impl$modificationCount;
+    }
+
+    @Override
+    public void bridge$markModified() {
+        this.impl$modificationCount++;
+    }
+
+    @Inject(method = {"add", "remove(Ljava/lang/Object;)V", "load"}, at = @At("RETURN"))
+    private void impl$markModified(final CallbackInfo ci) {
+        this.bridge$markModified();
+    }
+
+    @Inject(method = "removeExpired", at = @At(value = "INVOKE", target = "Ljava/util/Map;remove(Ljava/lang/Object;)Ljava/lang/Object;", remap = false))
+    private void impl$markExpiredRemoved(final CallbackInfo ci) {
+        this.bridge$markModified();
+    }
+
     @Redirect(method = "removeExpired", at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false))
     private boolean impl$fixAddingToList(final List<Object> list, final Object object) {
         return list.add(this.shadow$getKeyForUser(object)); // Mojang didn't implement this correctly, so we'll fix it
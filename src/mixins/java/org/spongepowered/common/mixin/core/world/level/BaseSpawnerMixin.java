@@ -24,16 +24,24 @@
  */
 package org.spongepowered.common.mixin.core.world.level;
 
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.BaseSpawner;
 import net.minecraft.world.level.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.entity.player.PlayerEntityBridge;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.spawner.AbstractSpawnerBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.world.server.SpawnBudget;
 
 @Mixin(BaseSpawner.class)
 public abstract class BaseSpawnerMixin implements AbstractSpawnerBridge {
@@ -46,8 +54,15 @@ public abstract class BaseSpawnerMixin implements AbstractSpawnerBridge {
     @Shadow private int maxNearbyEntities;
     @Shadow private int requiredPlayerRange;
     @Shadow private int spawnRange;
+
+    @Shadow public abstract Level shadow$getLevel();
+    @Shadow private boolean shadow$isNearPlayer() {
+        return false;
+    }
     // @formatter:on
 
+    private @Nullable SpawnBudget impl$spawnBudget;
+
     @Override
     public int bridge$getSpawnDelay() {
         return this.spawnDelay;
@@ -111,4 +126,43 @@ public abstract class BaseSpawnerMixin implements AbstractSpawnerBridge {
 
         return false;
     }
+
+    /**
+     * Spawners that are ready to spawn wait for a later tick if the spawn
+     * budget of their world is used up, keeping their delay at zero.
+     */
+    @Inject(method = "tick", at = @At("HEAD"), cancellable = true)
+    private void impl$startSpawnBudget(final CallbackInfo ci) {
+        this.impl$spawnBudget = null;
+        final Level level = this.shadow$getLevel();
+        if (this.spawnDelay != 0 || !(level instanceof ServerLevel) || !SpongeGameConfigs.getForWorld(level).get().spawner.budget.enabled
+                || !this.shadow$isNearPlayer()) {
+            return;
+        }
+        final SpawnBudget budget = ((ServerWorldBridge) level).bridge$spawnBudget();
+        if (!budget.tryStart()) {
+            ci.cancel();
+            return;
+        }
+        this.impl$spawnBudget = budget;
+    }
+
+    @Redirect(method = "tick",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/server/level/ServerLevel;tryAddFreshEntityWithPassengers(Lnet/minecraft/world/entity/Entity;)Z"))
+    private boolean impl$recordSpawnWithBudget(final ServerLevel level, final Entity entity) {
+        final boolean spawned = level.tryAddFreshEntityWithPassengers(entity);
+        if (spawned && this.impl$spawnBudget != null) {
+            this.impl$spawnBudget.recordSpawn();
+        }
+        return spawned;
+    }
+
+    @Inject(method = "tick", at = @At("RETURN"))
+    private void impl$finishSpawnBudget(final CallbackInfo ci) {
+        if (this.impl$spawnBudget != null) {
+            this.impl$spawnBudget.finish();
+            this.impl$spawnBudget = null;
+        }
+    }
 }
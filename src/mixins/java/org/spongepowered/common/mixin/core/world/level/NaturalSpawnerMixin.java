@@ -28,14 +28,19 @@
 import net.minecraft.world.entity.MobCategory;
 import net.minecraft.world.level.NaturalSpawner;
 import net.minecraft.world.level.chunk.LevelChunk;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.accessor.world.level.NaturalSpawner_SpawnStateAccessor;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.spawner.WorldEntitySpawner_EntityDensityManagerBridge;
 import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.config.inheritable.SpawnerCategory;
+import org.spongepowered.common.world.server.SpawnBudget;
+import org.spongepowered.common.world.server.TickGovernor;
 
 @Mixin(NaturalSpawner.class)
 public abstract class NaturalSpawnerMixin {
@@ -49,26 +54,50 @@ public abstract class NaturalSpawnerMixin {
 
     /**
      * @author morph - January 3rd, 2021 - Minecraft 1.16.4
-     * @reason Use world configured spawn limits
+     * @reason Use world configured spawn limits and spawn budget
      */
     @Overwrite
     public static void spawnForChunk(ServerLevel world, LevelChunk chunk, NaturalSpawner.SpawnState manager, boolean spawnFriendlies, boolean spawnEnemies, boolean doMobSpawning) {
         world.getProfiler().push("spawner");
 
+        final @Nullable SpawnBudget budget = NaturalSpawnerMixin.impl$getSpawnBudget(world);
+        boolean started = false;
         for (final MobCategory entityclassification : SPAWNING_CATEGORIES) {
             if ((spawnFriendlies || !entityclassification.isFriendly()) && (spawnEnemies || entityclassification.isFriendly()) && (doMobSpawning || !entityclassification.isPersistent()) && NaturalSpawnerMixin.impl$usePerWorldSpawnRules(manager, entityclassification, world)) {
+                if (budget != null && !started) {
+                    if (!budget.tryStart()) {
+                        break;
+                    }
+                    started = true;
+                }
                 NaturalSpawnerMixin.spawnCategoryForChunk(entityclassification, world, chunk,
                         (p_234969_1_, p_234969_2_, p_234969_3_) -> ((NaturalSpawner_SpawnStateAccessor) manager).invoker$canSpawn(p_234969_1_, p_234969_2_, p_234969_3_),
-                        (p_234970_1_, p_234970_2_) -> ((NaturalSpawner_SpawnStateAccessor) manager).invoker$afterSpawn(p_234970_1_, p_234970_2_)
+                        (p_234970_1_, p_234970_2_) -> {
+                            ((NaturalSpawner_SpawnStateAccessor) manager).invoker$afterSpawn(p_234970_1_, p_234970_2_);
+                            if (budget != null) {
+                                budget.recordSpawn();
+                            }
+                        }
                 );
             }
         }
+        if (started) {
+            budget.finish();
+        }
 
         world.getProfiler().pop();
     }
 
+    private static @Nullable SpawnBudget impl$getSpawnBudget(final ServerLevel world) {
+        if (!SpongeGameConfigs.getForWorld(world).get().spawner.budget.enabled) {
+            return null;
+        }
+        return ((ServerWorldBridge) world).bridge$spawnBudget();
+    }
+
     private static boolean impl$usePerWorldSpawnRules(final NaturalSpawner.SpawnState manager, final MobCategory classification, final ServerLevel world) {
-        final int tick = NaturalSpawnerMixin.impl$getSpawningTickRate(classification, world);
+        final int tick = NaturalSpawnerMixin.impl$getSpawningTickRate(classification, world)
+                * TickGovernor.getInterval(TickGovernor.INSTANCE.getLevel(world.dimension()));
         if (tick == 0) {
             return false;
         }
@@ -22,39 +22,28 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.spongepowered.common.network.channel;
+package org.spongepowered.common.mixin.inventory.event.world;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Multimap;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.inventory.container.ViewedContainerBridge;
 
-import java.util.function.Consumer;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.level.block.entity.BlockEntity;
 
-public final class ConcurrentMultimap<K, V> {
+@Mixin(value = {
+        BlockEntity.class,
+        SimpleContainer.class
+})
+public abstract class TraitMixin_SetChanged_Inventory {
 
-    private final Multimap<K, V> multimap = HashMultimap.create();
-    private volatile Multimap<K, V> immutable = null;
-
-    public void modify(final Consumer<Multimap<K, V>> consumer) {
-        synchronized (this.multimap) {
-            consumer.accept(this.multimap);
-            this.immutable = null;
-        }
-    }
-
-    public Multimap<K, V> get() {
-        Multimap<K, V> immutable = this.immutable;
-        if (immutable != null) {
-            return immutable;
-        }
-        synchronized (this.multimap) {
-            immutable = this.immutable;
-            if (immutable != null) {
-                return immutable;
-            }
-            immutable = ImmutableMultimap.copyOf(this.multimap);
-            this.immutable = immutable;
-            return immutable;
+    // Hoppers, furnaces and brewing stands change their items directly and then call setChanged
+    @Inject(method = "setChanged", at = @At("HEAD"))
+    private void impl$markViewersDirty(final CallbackInfo ci) {
+        if (this instanceof ViewedContainerBridge) {
+            ((ViewedContainerBridge) this).bridge$markViewersDirty();
         }
     }
 }
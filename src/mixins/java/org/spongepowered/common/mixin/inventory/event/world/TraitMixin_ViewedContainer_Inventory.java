@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.inventory.event.world;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.common.bridge.inventory.container.TrackedContainerBridge;
+import org.spongepowered.common.bridge.inventory.container.ViewedContainerBridge;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+import net.minecraft.world.Container;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.level.block.entity.BaseContainerBlockEntity;
+
+@Mixin(value = {
+        BaseContainerBlockEntity.class,
+        SimpleContainer.class
+})
+public abstract class TraitMixin_ViewedContainer_Inventory implements ViewedContainerBridge {
+
+    // Weak, so a menu that was never closed properly does not stay reachable
+    @Nullable private Set<AbstractContainerMenu> impl$viewingMenus;
+
+    @Override
+    public void bridge$addViewingMenu(final AbstractContainerMenu menu) {
+        if (this.impl$viewingMenus == null) {
+            this.impl$viewingMenus = Collections.newSetFromMap(new WeakHashMap<>());
+        }
+        this.impl$viewingMenus.add(menu);
+    }
+
+    @Override
+    public void bridge$removeViewingMenu(final AbstractContainerMenu menu) {
+        if (this.impl$viewingMenus != null) {
+            this.impl$viewingMenus.remove(menu);
+        }
+    }
+
+    @Override
+    public void bridge$markViewersDirty() {
+        if (this.impl$viewingMenus == null) {
+            return;
+        }
+        for (final AbstractContainerMenu menu : this.impl$viewingMenus) {
+            ((TrackedContainerBridge) menu).bridge$markContainerDirty((Container) this);
+        }
+    }
+}
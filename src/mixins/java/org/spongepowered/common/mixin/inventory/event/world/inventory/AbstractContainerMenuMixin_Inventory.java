@@ -39,24 +39,30 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.ContainerSlotTrackingCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.entity.player.PlayerEntityBridge;
 import org.spongepowered.common.bridge.inventory.ViewableInventoryBridge;
 import org.spongepowered.common.bridge.inventory.container.MenuBridge;
 import org.spongepowered.common.bridge.inventory.container.PlayerContainerBridge;
+import org.spongepowered.common.bridge.inventory.container.SlotBridge;
 import org.spongepowered.common.bridge.inventory.container.TrackedContainerBridge;
 import org.spongepowered.common.bridge.inventory.container.TrackedInventoryBridge;
+import org.spongepowered.common.bridge.inventory.container.ViewedContainerBridge;
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhaseUtil;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.custom.SpongeInventoryMenu;
 import org.spongepowered.common.item.util.ItemStackUtil;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import javax.annotation.Nullable;
 import net.minecraft.core.NonNullList;
 import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.Container;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
@@ -196,6 +202,11 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
     @Inject(method = "removed", at = @At(value = "HEAD"))
     private void onOnContainerClosed(Player player, CallbackInfo ci) {
         this.impl$setViewed(null);
+        for (final Slot slot : this.slots) {
+            if (slot.container instanceof ViewedContainerBridge) {
+                ((ViewedContainerBridge) slot.container).bridge$removeViewingMenu((AbstractContainerMenu) (Object) this);
+            }
+        }
     }
 
 
@@ -419,6 +430,34 @@ public void broadcastChanges() {
 
     @Shadow public abstract NonNullList<ItemStack> shadow$getItems();
 
+    private BitSet impl$dirtySlots = new BitSet();
+    private BitSet impl$processingSlots = new BitSet();
+    private int impl$ticksSinceFullScan;
+
+    @Override
+    public void bridge$markSlotDirty(final int index) {
+        this.impl$dirtySlots.set(index);
+    }
+
+    @Override
+    public void bridge$markContainerDirty(final Container container) {
+        for (int i = 0; i < this.slots.size(); ++i) {
+            if (this.slots.get(i).container == container) {
+                this.impl$dirtySlots.set(i);
+            }
+        }
+    }
+
+    @Inject(method = "addSlot", at = @At("RETURN"))
+    private void impl$trackSlotChanges(final Slot slot, final CallbackInfoReturnable<Slot> cir) {
+        ((SlotBridge) slot).bridge$setContainerMenu((AbstractContainerMenu) (Object) this);
+        this.impl$dirtySlots.set(slot.index);
+        // Other viewers, hoppers and furnaces change the container without going through this menu's slots
+        if (slot.container instanceof ViewedContainerBridge) {
+            ((ViewedContainerBridge) slot.container).bridge$addViewingMenu((AbstractContainerMenu) (Object) this);
+        }
+    }
+
     @Override
     public void bridge$detectAndSendChanges(final boolean captureOnly) {
         // Code-Flow changed from vanilla completely!
@@ -428,8 +467,22 @@ public void broadcastChanges() {
         boolean readOnlyCancel = false;
         List<Integer> changes = new ArrayList<>();
 
+        // Slots marked from here on are picked up next time
+        final BitSet dirtySlots = this.impl$dirtySlots;
+        this.impl$dirtySlots = this.impl$processingSlots;
+        this.impl$processingSlots = dirtySlots;
+        final ContainerSlotTrackingCategory slotTracking = SpongeConfigs.getCommon().get().optimizations.containerSlotTracking;
+        final boolean fullScan = !slotTracking.enabled || ++this.impl$ticksSinceFullScan >= slotTracking.fullScanInterval;
+        if (fullScan) {
+            this.impl$ticksSinceFullScan = 0;
+        }
+
         for (int i = 0; i < this.slots.size(); ++i) {
             final Slot slot = this.slots.get(i);
+            // Player inventories are changed directly rather than through slots, so they are always compared
+            if (!fullScan && !dirtySlots.get(i) && !(slot.container instanceof net.minecraft.world.entity.player.Inventory)) {
+                continue;
+            }
             final ItemStack newStack = slot.getItem();
             ItemStack oldStack = this.lastSlots.get(i);
             if (!ItemStack.matches(oldStack, newStack)) {
@@ -470,6 +523,7 @@ public void broadcastChanges() {
                     this.lastSlots.set(i, oldStack.copy());  // revert changes
                     // Send reverted slots to clients
                     this.impl$sendSlotContents(i, oldStack);
+                    this.impl$dirtySlots.set(i); // still differs, so check it again
                 } else {
                     // Capture changes for inventory events
                     this.impl$capture(i, newStack, oldStack);
@@ -477,6 +531,7 @@ public void broadcastChanges() {
                     // This flag is set only when the client sends an invalid CPacketWindowClickItem packet.
                     // We simply capture in order to send the proper changes back to client.
                     if (captureOnly) {
+                        this.impl$dirtySlots.set(i); // still differs, so check it again
                         continue;
                     }
                     // Perform vanilla logic - updating inventory stack - notify listeners
@@ -490,6 +545,8 @@ public void broadcastChanges() {
             }
         }
 
+        dirtySlots.clear();
+
         if (menu != null) {
             menu.setOldCursor(null);
         }
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.inventory.event.world.inventory;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.bridge.inventory.container.SlotBridge;
+import org.spongepowered.common.bridge.inventory.container.TrackedContainerBridge;
+
+import javax.annotation.Nullable;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
+
+@Mixin(Slot.class)
+public abstract class SlotMixin_Inventory implements SlotBridge {
+
+    // @formatter:off
+    @Shadow public int index;
+    // @formatter:on
+
+    @Nullable private AbstractContainerMenu impl$menu;
+
+    @Override
+    public void bridge$setContainerMenu(final AbstractContainerMenu menu) {
+        this.impl$menu = menu;
+    }
+
+    @Inject(method = "setChanged", at = @At("RETURN"))
+    private void impl$markDirtyOnChange(final CallbackInfo ci) {
+        if (this.impl$menu != null) {
+            ((TrackedContainerBridge) this.impl$menu).bridge$markSlotDirty(this.index);
+        }
+    }
+
+    @Inject(method = "remove", at = @At("RETURN"))
+    private void impl$markDirtyOnRemove(final int amount, final CallbackInfoReturnable<ItemStack> cir) {
+        if (this.impl$menu != null) {
+            ((TrackedContainerBridge) this.impl$menu).bridge$markSlotDirty(this.index);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.mcp.server.level;
+
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.world.server.EntityTrackingQueue;
+
+@Mixin(ChunkMap.class)
+public abstract class ChunkMapMixin_Optimization_SpawnBatching {
+
+    // @formatter:off
+    @Shadow @Final private ServerLevel level;
+
+    @Shadow protected abstract void shadow$addEntity(Entity entity);
+    // @formatter:on
+
+    private final EntityTrackingQueue<Entity> optimization$trackingQueue = new EntityTrackingQueue<>();
+    private boolean optimization$drainingTrackingQueue;
+
+    /**
+     * Creating the tracker of an entity pairs it with every player in range,
+     * which adds up when a whole wave of mobs is spawned at once. Mobs past
+     * the budget of this tick are tracked by a later tick instead.
+     */
+    @Inject(method = "addEntity", at = @At("HEAD"), cancellable = true)
+    private void optimization$deferTracking(final Entity entity, final CallbackInfo ci) {
+        if (this.optimization$drainingTrackingQueue || !(entity instanceof Mob) || entity.isPassenger() || entity.isVehicle()
+                || ((WorldBridge) this.level).bridge$isFake()) {
+            return;
+        }
+        if (!this.optimization$trackingQueue.offer(entity)) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "removeEntity", at = @At("HEAD"))
+    private void optimization$forgetDeferredEntity(final Entity entity, final CallbackInfo ci) {
+        this.optimization$trackingQueue.remove(entity);
+    }
+
+    @Inject(method = "tick()V", at = @At("HEAD"))
+    private void optimization$trackDeferredEntities(final CallbackInfo ci) {
+        this.optimization$trackingQueue.startTick(SpongeConfigs.getCommon().get().optimizations.entitySpawnBatching.maxTrackedPerTick);
+        if (this.optimization$trackingQueue.size() == 0) {
+            return;
+        }
+        this.optimization$drainingTrackingQueue = true;
+        try {
+            this.optimization$trackingQueue.drain(
+                entity -> !entity.removed && this.level.getEntity(entity.getId()) == entity,
+                this::shadow$addEntity);
+        } finally {
+            this.optimization$drainingTrackingQueue = false;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.mcp.server.level;
+
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.server.level.ServerEntity;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.MapItem;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.bridge.optimization.OptimizedMapDataBridge;
+import org.spongepowered.common.bridge.optimization.OptimizedMapInfoBridge;
+import org.spongepowered.common.world.storage.OptimizedMapTicker;
+
+@Mixin(ServerEntity.class)
+public abstract class ServerEntityMixin_Optimization_Map {
+
+    // @formatter:off
+    @Shadow @Final private ServerLevel level;
+    // @formatter:on
+
+    private @Nullable MapItemSavedData mapOptimization$frameMapData;
+
+    @Redirect(method = "sendChanges",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/level/saveddata/maps/MapItemSavedData;tickCarriedBy(Lnet/minecraft/world/entity/player/Player;Lnet/minecraft/world/item/ItemStack;)V"))
+    private void mapOptimization$updateFrameViewer(final MapItemSavedData mapData, final Player player, final ItemStack stack) {
+        this.mapOptimization$frameMapData = mapData;
+        ((OptimizedMapDataBridge) mapData).mapOptimizationBridge$updatePlayer(player, stack);
+    }
+
+    /**
+     * A wall of item frames often shows the same map several times. Only the
+     * first frame to update a player in each interval sends the map, the
+     * others would only send the same decorations again.
+     */
+    @Redirect(method = "sendChanges",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/item/MapItem;getUpdatePacket(Lnet/minecraft/world/item/ItemStack;Lnet/minecraft/world/level/Level;Lnet/minecraft/world/entity/player/Player;)Lnet/minecraft/network/protocol/Packet;"))
+    private @Nullable Packet<?> mapOptimization$sendMapOncePerFrameInterval(final MapItem mapItem, final ItemStack stack, final Level level,
+            final Player player) {
+        final @Nullable MapItemSavedData mapData = this.mapOptimization$frameMapData;
+        if (mapData != null) {
+            final MapItemSavedData.HoldingPlayer holder = mapData.getHoldingPlayer(player);
+            final long window = this.level.getGameTime() / OptimizedMapTicker.FRAME_UPDATE_INTERVAL;
+            if (!((OptimizedMapInfoBridge) holder).mapOptimizationBridge$claimFrameUpdate(window)) {
+                return null;
+            }
+        }
+        return mapItem.getUpdatePacket(stack, level, player);
+    }
+}
@@ -47,14 +47,13 @@ public abstract class ItemFrameMixin_Optimization_Map extends HangingEntityMixin
             return;
         }
 
-        final OptimizedMapDataBridge mapData = (OptimizedMapDataBridge) MapItem.getOrCreateSavedData(stack, this.level);
+        // Only look up the data of actual maps, looking it up for anything else would create a new map
         if (stack.getItem() instanceof MapItem) {
-            mapData.mapOptimizationBridge$updateItemFrameDecoration((ItemFrame) (Object) this);
-        } else if (this.shadow$getItem().getItem() instanceof MapItem && stack.isEmpty()) {
-            mapData.mapOptimizationBridge$removeItemFrame((ItemFrame) (Object) this);
+            ((OptimizedMapDataBridge) MapItem.getOrCreateSavedData(stack, this.level))
+                .mapOptimizationBridge$updateItemFrameDecoration((ItemFrame) (Object) this);
+        } else if (stack.isEmpty() && this.shadow$getItem().getItem() instanceof MapItem) {
+            ((OptimizedMapDataBridge) MapItem.getOrCreateSavedData(this.shadow$getItem(), this.level))
+                .mapOptimizationBridge$removeItemFrame((ItemFrame) (Object) this);
         }
     }
-
-
-
 }
@@ -24,14 +24,17 @@
  */
 package org.spongepowered.common.mixin.optimization.mcp.world.item;
 
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.MapItem;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.bridge.optimization.OptimizedMapDataBridge;
+import org.spongepowered.common.world.storage.OptimizedMapTicker;
 
 @Mixin(MapItem.class)
 public abstract class MapItemMixin_Optimization_Map {
@@ -43,4 +46,15 @@ public abstract class MapItemMixin_Optimization_Map {
     private void mapOptimization$onUpdateVisiblePlayers(final MapItemSavedData mapData, final Player player, final ItemStack itemStack) {
         ((OptimizedMapDataBridge) mapData).mapOptimizationBridge$updatePlayer(player, itemStack);
     }
+
+    @Redirect(method = "inventoryTick",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/item/MapItem;update(Lnet/minecraft/world/level/Level;Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/level/saveddata/maps/MapItemSavedData;)V"))
+    private void mapOptimization$updateColorsLessOften(final MapItem mapItem, final Level level, final Entity entity, final MapItemSavedData mapData) {
+        // Each update only covers a slice of the map, spreading them out just takes longer to fill in the map
+        if (OptimizedMapTicker.INSTANCE.shouldUpdateColors(entity)) {
+            mapItem.update(level, entity, mapData);
+        }
+    }
 }
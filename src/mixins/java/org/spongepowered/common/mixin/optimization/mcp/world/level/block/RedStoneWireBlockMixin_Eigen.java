@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.mcp.world.level.block;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.RedStoneWireBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.IntegerProperty;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.applaunch.config.common.EigenRedstoneCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.block.redstone.LevelWireAccess;
+import org.spongepowered.common.block.redstone.WirePowerPropagator;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Mixin(RedStoneWireBlock.class)
+public abstract class RedStoneWireBlockMixin_Eigen {
+
+    // @formatter:off
+    @Shadow @Final public static IntegerProperty POWER;
+    @Shadow private boolean shouldSignal;
+
+    @Shadow private int shadow$calculateTargetStrength(final Level level, final BlockPos pos) {
+        return 0;
+    }
+    // @formatter:on
+
+    /**
+     * Settles the whole wire network in one pass instead of letting every wire
+     * recompute its power from neighbours which have not been updated yet. The
+     * neighbour updates are deduplicated and sent once the network is settled.
+     *
+     * @param level The level
+     * @param pos The position of the wire
+     * @param state The state of the wire
+     * @param ci The callback info, cancelled unless vanilla should handle the change
+     */
+    @Inject(method = "updatePowerStrength", at = @At("HEAD"), cancellable = true)
+    private void optimization$propagatePowerBreadthFirst(final Level level, final BlockPos pos, final BlockState state, final CallbackInfo ci) {
+        final EigenRedstoneCategory category = SpongeConfigs.getCommon().get().optimizations.eigenRedstone;
+        if (category.vanillaSearch || level.getBlockState(pos) != state) {
+            return;
+        }
+        final int current = state.getValue(RedStoneWireBlockMixin_Eigen.POWER);
+        final int target = this.shadow$calculateTargetStrength(level, pos);
+        if (target < current && category.vanillaDecrement) {
+            return;
+        }
+        ci.cancel();
+        if (target == current) {
+            return;
+        }
+
+        final RedStoneWireBlock wire = (RedStoneWireBlock) (Object) this;
+        final Long2IntMap changes = WirePowerPropagator.propagate(new LevelWireAccess(level, wire, p -> this.optimization$getExternalPower(level, p)),
+                pos.asLong(), target);
+
+        final Set<BlockPos> updates = new LinkedHashSet<>();
+        for (final Long2IntMap.Entry change : changes.long2IntEntrySet()) {
+            final BlockPos changed = BlockPos.of(change.getLongKey());
+            final BlockState changedState = level.getBlockState(changed);
+            level.setBlock(changed, changedState.setValue(RedStoneWireBlockMixin_Eigen.POWER, change.getIntValue()), 2);
+            updates.add(changed);
+            for (final Direction direction : Direction.values()) {
+                updates.add(changed.relative(direction));
+            }
+        }
+        for (final BlockPos update : updates) {
+            level.updateNeighborsAt(update, wire);
+        }
+    }
+
+    private int optimization$getExternalPower(final Level level, final BlockPos pos) {
+        // Same as vanilla, wire must not power itself through the blocks around it
+        this.shouldSignal = false;
+        final int power = level.getBestNeighborSignal(pos);
+        this.shouldSignal = true;
+        return power;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.mcp.world.level.saveddata.maps;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.decoration.ItemFrame;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.saveddata.maps.MapDecoration;
+import net.minecraft.world.level.saveddata.maps.MapFrame;
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.bridge.optimization.OptimizedMapDataBridge;
+import org.spongepowered.common.bridge.optimization.OptimizedMapInfoBridge;
+import org.spongepowered.common.world.storage.OptimizedMapTicker;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+@Mixin(MapItemSavedData.class)
+public abstract class MapItemSavedDataMixin_Optimization_Map implements OptimizedMapDataBridge {
+
+    // @formatter:off
+    @Shadow public ResourceKey<Level> dimension;
+    @Shadow public boolean trackingPosition;
+    @Shadow @Final public List<MapItemSavedData.HoldingPlayer> carriedBy;
+    @Shadow @Final private Map<Player, MapItemSavedData.HoldingPlayer> carriedByPlayers;
+    @Shadow @Final public Map<String, MapDecoration> decorations;
+    @Shadow @Final private Map<String, MapFrame> frameMarkers;
+
+    @Shadow public abstract MapItemSavedData.HoldingPlayer shadow$getHoldingPlayer(Player player);
+    @Shadow private void shadow$addDecoration(final MapDecoration.Type type, final @Nullable LevelAccessor level, final String key,
+            final double x, final double z, final double rotation, final @Nullable Component name) {
+    }
+    // @formatter:on
+
+    /**
+     * Replaces {@link MapItemSavedData#tickCarriedBy(Player, ItemStack)}, which
+     * checks the whole inventory of every holder each time any of them ticks
+     * the map. Here the holder is only marked as still holding the map, and
+     * the holders are refreshed in {@link #mapOptimizationBridge$tickMap()}.
+     */
+    @Override
+    public void mapOptimizationBridge$updatePlayer(final Player player, final ItemStack mapStack) {
+        @Nullable MapItemSavedData.HoldingPlayer holder = this.carriedByPlayers.get(player);
+        if (holder == null) {
+            holder = this.shadow$getHoldingPlayer(player);
+            OptimizedMapTicker.INSTANCE.track(this);
+        }
+        final OptimizedMapInfoBridge info = (OptimizedMapInfoBridge) holder;
+        info.mapOptimizationBridge$setValid(true);
+        if (mapStack.isFramed()) {
+            info.mapOptimizationBridge$setLastFramedTick(OptimizedMapTicker.INSTANCE.getTickCount());
+        } else {
+            info.mapOptimizationBridge$setCarried(true);
+        }
+
+        final @Nullable CompoundTag tag = mapStack.getTag();
+        if (tag != null && tag.contains("Decorations", 9)) {
+            final ListTag decorations = tag.getList("Decorations", 10);
+            for (int i = 0; i < decorations.size(); i++) {
+                final CompoundTag decoration = decorations.getCompound(i);
+                if (!this.decorations.containsKey(decoration.getString("id"))) {
+                    this.shadow$addDecoration(MapDecoration.Type.byIcon(decoration.getByte("type")), player.level, decoration.getString("id"),
+                            decoration.getDouble("x"), decoration.getDouble("z"), decoration.getDouble("rot"), null);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean mapOptimizationBridge$tickMap() {
+        final Iterator<MapItemSavedData.HoldingPlayer> iterator = this.carriedBy.iterator();
+        while (iterator.hasNext()) {
+            final MapItemSavedData.HoldingPlayer holder = iterator.next();
+            final OptimizedMapInfoBridge info = (OptimizedMapInfoBridge) holder;
+            final Player player = holder.player;
+            final String name = player.getName().getString();
+            // Like vanilla, keep the holders of framed maps, item frames only refresh them every few ticks
+            if (player.removed || !info.mapOptimizationBridge$isValid()
+                    && !OptimizedMapTicker.INSTANCE.isViewingFrame(info.mapOptimizationBridge$getLastFramedTick())) {
+                iterator.remove();
+                this.carriedByPlayers.remove(player);
+                this.decorations.remove(name);
+                continue;
+            }
+            // Players only looking at the map in an item frame don't show up on it
+            if (info.mapOptimizationBridge$isCarried() && this.trackingPosition && player.level.dimension() == this.dimension) {
+                this.shadow$addDecoration(MapDecoration.Type.PLAYER, player.level, name, player.getX(), player.getZ(), player.yRot, null);
+            } else {
+                this.decorations.remove(name);
+            }
+            info.mapOptimizationBridge$setValid(false);
+            info.mapOptimizationBridge$setCarried(false);
+        }
+        return !this.carriedBy.isEmpty();
+    }
+
+    @Override
+    public void mapOptimizationBridge$updateItemFrameDecoration(final ItemFrame frame) {
+        if (!this.trackingPosition) {
+            return;
+        }
+        final BlockPos pos = frame.getPos();
+        final @Nullable MapFrame existing = this.frameMarkers.get(MapFrame.frameId(pos));
+        if (existing != null && frame.getId() != existing.getEntityId()) {
+            this.decorations.remove("frame-" + existing.getEntityId());
+        }
+        final int rotation = frame.getDirection().get2DDataValue() * 90;
+        final MapFrame marker = new MapFrame(pos, rotation, frame.getId());
+        this.shadow$addDecoration(MapDecoration.Type.FRAME, frame.level, "frame-" + frame.getId(), pos.getX(), pos.getZ(), rotation, null);
+        this.frameMarkers.put(marker.getId(), marker);
+    }
+
+    @Override
+    public void mapOptimizationBridge$removeItemFrame(final ItemFrame frame) {
+        this.frameMarkers.remove(MapFrame.frameId(frame.getPos()));
+        this.decorations.remove("frame-" + frame.getId());
+    }
+}
@@ -32,6 +32,9 @@
 public abstract class MapItemSavedData_HoldingPlayerMixin_Optimization_Map implements OptimizedMapInfoBridge {
 
     private boolean mapOptimization$valid;
+    private boolean mapOptimization$carried;
+    private int mapOptimization$lastFramedTick = -1;
+    private long mapOptimization$frameUpdateWindow = -1;
 
     @Override
     public void mapOptimizationBridge$setValid(final boolean valid) {
@@ -43,4 +46,33 @@ public abstract class MapItemSavedData_HoldingPlayerMixin_Optimization_Map imple
         return this.mapOptimization$valid;
     }
 
+    @Override
+    public void mapOptimizationBridge$setCarried(final boolean carried) {
+        this.mapOptimization$carried = carried;
+    }
+
+    @Override
+    public boolean mapOptimizationBridge$isCarried() {
+        return this.mapOptimization$carried;
+    }
+
+    @Override
+    public void mapOptimizationBridge$setLastFramedTick(final int tick) {
+        this.mapOptimization$lastFramedTick = tick;
+    }
+
+    @Override
+    public int mapOptimizationBridge$getLastFramedTick() {
+        return this.mapOptimization$lastFramedTick;
+    }
+
+    @Override
+    public boolean mapOptimizationBridge$claimFrameUpdate(final long window) {
+        if (this.mapOptimization$frameUpdateWindow == window) {
+            return false;
+        }
+        this.mapOptimization$frameUpdateWindow = window;
+        return true;
+    }
+
 }
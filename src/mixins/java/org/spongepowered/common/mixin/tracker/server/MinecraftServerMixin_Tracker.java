@@ -37,6 +37,7 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.util.concurrent.TrackedTickDelayedTaskBridge;
 import org.spongepowered.common.event.tracking.CauseTrackerCrashHandler;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -44,6 +45,7 @@
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.mixin.tracker.util.thread.BlockableEventLoopMixin_Tracker;
+import org.spongepowered.common.world.server.TickGovernor;
 import java.util.function.BooleanSupplier;
 
 @SuppressWarnings("rawtypes")
@@ -91,6 +93,8 @@ public abstract class MinecraftServerMixin_Tracker extends BlockableEventLoopMix
         )
     )
     private void tracker$wrapWorldTick(final ServerLevel serverWorld, final BooleanSupplier hasTimeLeft) {
+        final boolean governed = SpongeConfigs.getCommon().get().optimizations.tickGovernor.enabled;
+        final long start = governed ? System.nanoTime() : 0L;
         try (
             final PhaseContext<@NonNull ?> context = TickPhase.Tick.WORLD_TICK
                 .createPhaseContext(PhaseTracker.SERVER)
@@ -99,6 +103,9 @@ public abstract class MinecraftServerMixin_Tracker extends BlockableEventLoopMix
             context.buildAndSwitch();
             serverWorld.tick(hasTimeLeft);
         }
+        if (governed) {
+            TickGovernor.INSTANCE.recordWorldTick(serverWorld.dimension(), System.nanoTime() - start);
+        }
     }
 
     @Inject(method = "wrapRunnable", at = @At("RETURN"))
@@ -101,7 +101,9 @@
 import org.spongepowered.common.util.PrettyPrinter;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.common.world.server.ChunkTickProfiler;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
+import org.spongepowered.common.world.server.TickGovernor;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 
 import java.util.Collections;
@@ -121,6 +123,7 @@
 import net.minecraft.network.protocol.game.ClientboundSetEntityMotionPacket;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.BlockEventData;
 import net.minecraft.world.level.Explosion;
@@ -174,25 +177,55 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
     private void tracker$wrapNormalEntityTick(final ServerLevel serverWorld, final Consumer<Entity> entityUpdateConsumer,
         final Entity entity
     ) {
+        final boolean profile = ChunkTickProfiler.INSTANCE.shouldSample();
+        // The entity may move to another chunk while ticking, so charge the chunk it started in
+        final int chunkX = profile ? Mth.floor(entity.getX()) >> 4 : 0;
+        final int chunkZ = profile ? Mth.floor(entity.getZ()) >> 4 : 0;
+        final long start = profile ? System.nanoTime() : 0L;
         final PhaseContext<@NonNull ?> currentState = PhaseTracker.SERVER.getPhaseContext();
         if (currentState.alreadyCapturingEntityTicks()) {
             this.shadow$guardEntityTick(entityUpdateConsumer, entity);
-            return;
+        } else {
+            TrackingUtil.tickEntity(entityUpdateConsumer, entity);
+        }
+        if (profile) {
+            ChunkTickProfiler.INSTANCE.record(((ServerLevel) (Object) this).dimension(), chunkX, chunkZ, entity.getType(),
+                System.nanoTime() - start);
         }
-        TrackingUtil.tickEntity(entityUpdateConsumer, entity);
     }
 
     @Override
     protected void tracker$wrapTileEntityTick(final TickableBlockEntity tileEntity) {
+        if (this.tracker$isThrottledByGovernor((net.minecraft.world.level.block.entity.BlockEntity) tileEntity)) {
+            return;
+        }
+        final boolean profile = ChunkTickProfiler.INSTANCE.shouldSample();
+        final long start = profile ? System.nanoTime() : 0L;
         final PhaseContext<@NonNull ?> state = PhaseTracker.SERVER.getPhaseContext();
         if (state.alreadyCapturingTileTicks()) {
             tileEntity.tick();
-            return;
+        } else {
+            TrackingUtil.tickTileEntity(this, tileEntity);
+        }
+        if (profile) {
+            final net.minecraft.world.level.block.entity.BlockEntity blockEntity = (net.minecraft.world.level.block.entity.BlockEntity) tileEntity;
+            final BlockPos pos = blockEntity.getBlockPos();
+            ChunkTickProfiler.INSTANCE.record(((ServerLevel) (Object) this).dimension(), pos.getX() >> 4, pos.getZ() >> 4,
+                blockEntity.getType(), System.nanoTime() - start);
         }
-        TrackingUtil.tickTileEntity(this, tileEntity);
     }
 
 
+    private boolean tracker$isThrottledByGovernor(final net.minecraft.world.level.block.entity.BlockEntity blockEntity) {
+        if (!TickGovernor.INSTANCE.isThrottling() || !TickGovernor.INSTANCE.isThrottled(blockEntity.getType())) {
+            return false;
+        }
+        final ServerLevel level = (ServerLevel) (Object) this;
+        // Spread the ticks of throttled block entities over the interval
+        final int governorLevel = TickGovernor.INSTANCE.getLevel(level.dimension());
+        return !TickGovernor.shouldRun(level.getGameTime(), blockEntity.getBlockPos().hashCode(), governorLevel);
+    }
+
     /**
      * For PhaseTracking, we need to wrap around the
      * {@link BlockState#tick(ServerLevel, BlockPos, Random)} method, and the ScheduledTickList uses a lambda method
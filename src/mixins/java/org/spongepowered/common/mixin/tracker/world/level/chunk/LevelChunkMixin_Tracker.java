@@ -39,6 +39,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.block.BlockStateBridge;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.chunk.TrackedChunkBridge;
@@ -142,7 +143,7 @@ public abstract class LevelChunkMixin_Tracker implements TrackedChunkBridge {
         final PhaseContext<@NonNull ?> context = PhaseTracker.getInstance().getPhaseContext();
         final @Nullable BlockEntity existing = this.shadow$getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         // Build a transaction maybe?
-        final WeakReference<ServerLevel> ref = new WeakReference<>((ServerLevel) this.level);
+        final WeakReference<ServerLevel> ref = ((ServerWorldBridge) this.level).bridge$weakReference();
         final SpongeBlockSnapshot snapshot = TrackingUtil.createPooledSnapshot(currentState, pos, flag, limit, existing,
             () -> Objects.requireNonNull(ref.get(), "ServerWorld dereferenced"),
             Optional::empty, Optional::empty
@@ -0,0 +1,239 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block.redstone;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.LongConsumer;
+
+final class WirePowerPropagatorTest {
+
+    @Test
+    void testLineTurnsOff() {
+        final Grid grid = Grid.line(20);
+        grid.setExternal(0, 0, 15);
+        grid.settle(0, 0);
+        Assertions.assertEquals(1, grid.getPower(14, 0));
+        Assertions.assertEquals(0, grid.getPower(15, 0));
+
+        grid.setExternal(0, 0, 0);
+        final Long2IntMap changes = grid.settle(0, 0);
+        Assertions.assertEquals(15, changes.size());
+        grid.assertSettled();
+    }
+
+    @Test
+    void testLineKeepsOtherSource() {
+        final Grid grid = Grid.line(20);
+        grid.setExternal(0, 0, 15);
+        grid.settle(0, 0);
+        grid.setExternal(19, 0, 10);
+        grid.settle(19, 0);
+
+        grid.setExternal(0, 0, 0);
+        grid.settle(0, 0);
+        grid.assertSettled();
+        Assertions.assertEquals(10, grid.getPower(19, 0));
+        Assertions.assertEquals(1, grid.getPower(10, 0));
+        Assertions.assertEquals(0, grid.getPower(9, 0));
+    }
+
+    @Test
+    void testGridWithSeveralSources() {
+        final Grid grid = Grid.square(16);
+        grid.setExternal(0, 0, 15);
+        grid.settle(0, 0);
+        grid.setExternal(15, 15, 12);
+        grid.settle(15, 15);
+        grid.setExternal(8, 3, 9);
+        grid.settle(8, 3);
+        grid.assertSettled();
+
+        grid.setExternal(0, 0, 0);
+        grid.settle(0, 0);
+        grid.assertSettled();
+
+        grid.setExternal(8, 3, 15);
+        grid.settle(8, 3);
+        grid.assertSettled();
+    }
+
+    @Test
+    void testEachWireIsWrittenOnce() {
+        final Grid eigen = Grid.square(16);
+        final Grid vanilla = Grid.square(16);
+        eigen.setExternal(0, 0, 15);
+        eigen.settle(0, 0);
+        vanilla.setExternal(0, 0, 15);
+        vanilla.settleVanilla(0, 0);
+
+        eigen.setExternal(0, 0, 0);
+        eigen.writes = 0;
+        eigen.settle(0, 0);
+        vanilla.setExternal(0, 0, 0);
+        vanilla.writes = 0;
+        vanilla.settleVanilla(0, 0);
+
+        eigen.assertSettled();
+        vanilla.assertSettled();
+        // 120 wires are powered within the square, each of them is turned off exactly once
+        Assertions.assertEquals(120, eigen.writes);
+        Assertions.assertTrue(vanilla.writes > eigen.writes * 2, "vanilla wrote " + vanilla.writes + " times");
+    }
+
+    private static final class Grid implements WirePowerPropagator.WireAccess {
+
+        private final LongSet wires = new LongOpenHashSet();
+        private final Long2IntOpenHashMap power = new Long2IntOpenHashMap();
+        private final Long2IntOpenHashMap external = new Long2IntOpenHashMap();
+        int writes;
+
+        static Grid line(final int length) {
+            final Grid grid = new Grid();
+            for (int x = 0; x < length; x++) {
+                grid.wires.add(Grid.pack(x, 0));
+            }
+            return grid;
+        }
+
+        static Grid square(final int size) {
+            final Grid grid = new Grid();
+            for (int x = 0; x < size; x++) {
+                for (int z = 0; z < size; z++) {
+                    grid.wires.add(Grid.pack(x, z));
+                }
+            }
+            return grid;
+        }
+
+        static long pack(final int x, final int z) {
+            return ((long) x << 32) | (z & 0xFFFFFFFFL);
+        }
+
+        void setExternal(final int x, final int z, final int power) {
+            this.external.put(Grid.pack(x, z), power);
+        }
+
+        int getPower(final int x, final int z) {
+            return this.power.get(Grid.pack(x, z));
+        }
+
+        Long2IntMap settle(final int x, final int z) {
+            final long pos = Grid.pack(x, z);
+            final int target = this.getTarget(pos);
+            if (target == this.power.get(pos)) {
+                return new Long2IntOpenHashMap();
+            }
+            final Long2IntMap changes = WirePowerPropagator.propagate(this, pos, target);
+            for (final Long2IntMap.Entry change : changes.long2IntEntrySet()) {
+                this.power.put(change.getLongKey(), change.getIntValue());
+                this.writes++;
+            }
+            return changes;
+        }
+
+        /**
+         * Mirrors vanilla, every wire recomputes its power from its
+         * neighbours and immediately notifies them when it changes.
+         */
+        void settleVanilla(final int x, final int z) {
+            this.updateVanilla(Grid.pack(x, z));
+        }
+
+        private void updateVanilla(final long pos) {
+            final int target = this.getTarget(pos);
+            if (target == this.power.get(pos)) {
+                return;
+            }
+            this.power.put(pos, target);
+            this.writes++;
+            this.forEachConnectedWire(pos, this::updateVanilla);
+        }
+
+        void assertSettled() {
+            final Long2IntOpenHashMap expected = new Long2IntOpenHashMap();
+            for (final Long2IntMap.Entry source : this.external.long2IntEntrySet()) {
+                final Long2IntOpenHashMap reached = new Long2IntOpenHashMap();
+                final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+                reached.put(source.getLongKey(), source.getIntValue());
+                queue.enqueue(source.getLongKey());
+                while (!queue.isEmpty()) {
+                    final long pos = queue.dequeueLong();
+                    final int next = reached.get(pos) - 1;
+                    this.forEachConnectedWire(pos, neighbor -> {
+                        if (next > 0 && !reached.containsKey(neighbor)) {
+                            reached.put(neighbor, next);
+                            queue.enqueue(neighbor);
+                        }
+                    });
+                }
+                for (final Long2IntMap.Entry entry : reached.long2IntEntrySet()) {
+                    expected.put(entry.getLongKey(), Math.max(expected.get(entry.getLongKey()), entry.getIntValue()));
+                }
+            }
+            for (final long wire : this.wires) {
+                Assertions.assertEquals(expected.get(wire), this.power.get(wire), "power of wire " + (wire >> 32) + ", " + (int) wire);
+            }
+        }
+
+        private int getTarget(final long pos) {
+            final int[] target = {this.getExternalPower(pos)};
+            this.forEachConnectedWire(pos, neighbor -> target[0] = Math.max(target[0], this.getPower(neighbor) - 1));
+            return target[0];
+        }
+
+        @Override
+        public int getPower(final long pos) {
+            return this.power.get(pos);
+        }
+
+        @Override
+        public int getExternalPower(final long pos) {
+            return this.external.get(pos);
+        }
+
+        @Override
+        public void forEachConnectedWire(final long pos, final LongConsumer consumer) {
+            final int x = (int) (pos >> 32);
+            final int z = (int) pos;
+            this.acceptIfWire(Grid.pack(x + 1, z), consumer);
+            this.acceptIfWire(Grid.pack(x - 1, z), consumer);
+            this.acceptIfWire(Grid.pack(x, z + 1), consumer);
+            this.acceptIfWire(Grid.pack(x, z - 1), consumer);
+        }
+
+        private void acceptIfWire(final long pos, final LongConsumer consumer) {
+            if (this.wires.contains(pos)) {
+                consumer.accept(pos);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.effect.particle;
+
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class SpongeParticleHelperTest {
+
+    private static final Packet<?> PACKET = (Packet<?>) Proxy.newProxyInstance(SpongeParticleHelperTest.class.getClassLoader(),
+            new Class<?>[] {Packet.class}, (proxy, method, args) -> null);
+
+    private static final class Viewer {
+
+        final String name;
+        final Vec3 position;
+
+        Viewer(final String name, final double x, final double y, final double z) {
+            this.name = name;
+            this.position = new Vec3(x, y, z);
+        }
+    }
+
+    private static Set<String> send(final List<Viewer> viewers, final Map<String, List<Vector3d>> effects, final int radius) {
+        final ParticleViewerIndex<Viewer> index = new ParticleViewerIndex<>(viewer -> viewer.position);
+        index.update(0, viewers);
+        final Set<String> received = new HashSet<>();
+        SpongeParticleHelper.sendPackets(effects, radius, index, effect -> (position, output) -> output.add(SpongeParticleHelperTest.PACKET),
+                (viewer, packet) -> Assertions.assertTrue(received.add(viewer.name), viewer.name + " received the particle twice"));
+        return received;
+    }
+
+    private static Map<String, List<Vector3d>> effectAt(final double x, final double y, final double z) {
+        return Collections.singletonMap("effect", Collections.singletonList(new Vector3d(x, y, z)));
+    }
+
+    @Test
+    void testOnlyViewersWithinRadiusReceive() {
+        final List<Viewer> viewers = Arrays.asList(
+                new Viewer("near", 3, 64, -2),
+                new Viewer("above", 0, 75, 0),
+                new Viewer("edge", 16, 64, 0),
+                new Viewer("diagonal", 12, 64, 12),
+                new Viewer("far", 100, 64, 0));
+        final Set<String> received = SpongeParticleHelperTest.send(viewers, SpongeParticleHelperTest.effectAt(0, 64, 0), 16);
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("near", "above")), received);
+    }
+
+    @Test
+    void testOnlyViewersWithinRadiusReceiveAcrossChunks() {
+        // Enough occupied chunks that only the chunks around the particle are looked at
+        final List<Viewer> viewers = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            viewers.add(new Viewer("far" + i, 1000 + i * 16, 64, -1000));
+        }
+        viewers.add(new Viewer("near", -17, 64, 33));
+        viewers.add(new Viewer("neighbour", -40, 64, 20));
+        viewers.add(new Viewer("outside", -5, 64, 60));
+        final Set<String> received = SpongeParticleHelperTest.send(viewers, SpongeParticleHelperTest.effectAt(-20, 64, 30), 24);
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("near", "neighbour")), received);
+    }
+
+    @Test
+    void testNothingIsSentWithoutViewers() {
+        Assertions.assertTrue(SpongeParticleHelperTest.send(Collections.emptyList(), SpongeParticleHelperTest.effectAt(0, 64, 0), 16).isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.ban;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.util.IpSet;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+final class IpBanIndexTest {
+
+    private static IpBanIndex<IpSet> index() {
+        return new IpBanIndex<>(IpSet::getAddress, IpSet::getPrefixLength);
+    }
+
+    private static InetAddress address(final String address) throws UnknownHostException {
+        return InetAddress.getByName(address);
+    }
+
+    @Test
+    void testRangeBansCoverTheirAddresses() throws UnknownHostException {
+        final IpSet range = IpSet.fromCidr("10.0.0.0/8");
+        final IpBanIndex<IpSet> index = IpBanIndexTest.index();
+        index.update(0, Arrays.asList(range, IpSet.fromCidr("192.168.1.1")));
+
+        Assertions.assertSame(range, index.getCovering(IpBanIndexTest.address("10.1.2.3")));
+        Assertions.assertNull(index.getCovering(IpBanIndexTest.address("11.0.0.1")));
+        Assertions.assertNull(index.getCovering(IpBanIndexTest.address("192.168.1.2")));
+        // Only the range itself is banned, not the addresses within it
+        Assertions.assertNull(index.getExact(IpBanIndexTest.address("10.1.2.3")));
+    }
+
+    @Test
+    void testPardonLeavesCoveringRangeBan() throws UnknownHostException {
+        final IpSet range = IpSet.fromCidr("10.0.0.0/8");
+        final IpSet single = IpSet.fromCidr("10.1.2.3");
+        final List<IpSet> bans = new ArrayList<>(Arrays.asList(range, single));
+        final IpBanIndex<IpSet> index = IpBanIndexTest.index();
+        index.update(0, bans);
+        Assertions.assertSame(single, index.getCovering(IpBanIndexTest.address("10.1.2.3")));
+
+        // Pardoning the address removes the ban found by the exact lookup
+        Assertions.assertSame(single, index.getExact(IpBanIndexTest.address("10.1.2.3")));
+        bans.remove(single);
+        index.update(1, bans);
+
+        // It is still banned at login by the range, but there is nothing left to pardon
+        Assertions.assertSame(range, index.getCovering(IpBanIndexTest.address("10.1.2.3")));
+        Assertions.assertNull(index.getExact(IpBanIndexTest.address("10.1.2.3")));
+    }
+
+    @Test
+    void testRebuildsOnEveryModification() throws UnknownHostException {
+        final List<IpSet> bans = new ArrayList<>(Collections.singletonList(IpSet.fromCidr("10.1.2.3")));
+        final IpBanIndex<IpSet> index = IpBanIndexTest.index();
+        index.update(0, bans);
+
+        // Replacing a ban keeps the size of the list, so only the modification count tells it changed
+        bans.set(0, IpSet.fromCidr("10.1.2.4"));
+        index.update(0, bans);
+        Assertions.assertNotNull(index.getCovering(IpBanIndexTest.address("10.1.2.3")));
+        index.update(1, bans);
+        Assertions.assertNull(index.getCovering(IpBanIndexTest.address("10.1.2.3")));
+        Assertions.assertNotNull(index.getCovering(IpBanIndexTest.address("10.1.2.4")));
+    }
+}
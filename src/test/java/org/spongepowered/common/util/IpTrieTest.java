@@ -0,0 +1,126 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Random;
+
+final class IpTrieTest {
+
+    @Test
+    void testMostSpecificNetworkWins() throws UnknownHostException {
+        final IpTrie<String> trie = new IpTrie<>();
+        trie.put(IpSet.fromCidr("10.0.0.0/8"), "a");
+        trie.put(IpSet.fromCidr("10.42.0.0/16"), "b");
+        trie.put(IpSet.fromCidr("10.42.3.7"), "c");
+        Assertions.assertEquals(3, trie.size());
+        Assertions.assertEquals("c", trie.get(InetAddress.getByName("10.42.3.7")));
+        Assertions.assertEquals("b", trie.get(InetAddress.getByName("10.42.3.8")));
+        Assertions.assertEquals("a", trie.get(InetAddress.getByName("10.43.0.1")));
+        Assertions.assertNull(trie.get(InetAddress.getByName("11.0.0.1")));
+    }
+
+    @Test
+    void testExactLookupIgnoresCoveringNetworks() throws UnknownHostException {
+        final IpTrie<String> trie = new IpTrie<>();
+        trie.put(IpSet.fromCidr("10.0.0.0/8"), "range");
+        Assertions.assertNull(trie.getExact(IpSet.fromCidr("10.1.2.3")));
+        Assertions.assertNull(trie.getExact(IpSet.fromCidr("10.0.0.0/16")));
+        Assertions.assertEquals("range", trie.getExact(IpSet.fromCidr("10.0.0.0/8")));
+
+        trie.put(IpSet.fromCidr("10.1.2.3"), "single");
+        final byte[] address = InetAddress.getByName("10.1.2.3").getAddress();
+        Assertions.assertEquals("single", trie.getExact(address, 32));
+        Assertions.assertNull(trie.getExact(InetAddress.getByName("10.1.2.4").getAddress(), 32));
+    }
+
+    @Test
+    void testNonByteAlignedNetworks() throws UnknownHostException {
+        final IpTrie<String> trie = new IpTrie<>();
+        trie.put(IpSet.fromCidr("[2064:45:300::]/40"), "v6");
+        trie.put(IpSet.fromCidr("192.168.0.0/23"), "v4");
+        Assertions.assertEquals("v6", trie.get(InetAddress.getByName("2064:45:310::cafe")));
+        Assertions.assertNull(trie.get(InetAddress.getByName("2064:45:410::cafe")));
+        Assertions.assertEquals("v4", trie.get(InetAddress.getByName("192.168.1.255")));
+        Assertions.assertNull(trie.get(InetAddress.getByName("192.168.2.0")));
+    }
+
+    @Test
+    void testFamiliesAreSeparate() throws UnknownHostException {
+        final IpTrie<String> trie = new IpTrie<>();
+        trie.put(IpSet.fromCidr("0.0.0.0/0"), "all v4");
+        Assertions.assertEquals("all v4", trie.get(InetAddress.getByName("203.0.113.9")));
+        Assertions.assertNull(trie.get(InetAddress.getByName("::1")));
+    }
+
+    @Test
+    void testRemove() throws UnknownHostException {
+        final IpTrie<String> trie = new IpTrie<>();
+        trie.put(IpSet.fromCidr("10.0.0.0/8"), "a");
+        trie.put(IpSet.fromCidr("10.1.0.0/16"), "b");
+        trie.put(IpSet.fromCidr("10.2.0.0/16"), "c");
+        Assertions.assertNull(trie.remove(IpSet.fromCidr("10.3.0.0/16")));
+        Assertions.assertNull(trie.remove(IpSet.fromCidr("10.0.0.0/9")));
+        Assertions.assertEquals("a", trie.remove(IpSet.fromCidr("10.0.0.0/8")));
+        Assertions.assertNull(trie.get(InetAddress.getByName("10.3.0.1")));
+        Assertions.assertEquals("b", trie.get(InetAddress.getByName("10.1.0.1")));
+        Assertions.assertEquals("b", trie.remove(IpSet.fromCidr("10.1.0.0/16")));
+        Assertions.assertEquals("c", trie.get(InetAddress.getByName("10.2.0.1")));
+        Assertions.assertEquals(1, trie.size());
+    }
+
+    @Test
+    void testMatchesLinearScan() throws UnknownHostException {
+        final Random random = new Random(44);
+        final IpTrie<IpSet> trie = new IpTrie<>();
+        final IpSet[] networks = new IpSet[500];
+        for (int i = 0; i < networks.length; i++) {
+            final byte[] address = new byte[4];
+            random.nextBytes(address);
+            // Keep the networks close together so they nest and overlap
+            address[0] = (byte) (address[0] & 0x3);
+            networks[i] = IpSet.fromAddrPrefix(InetAddress.getByAddress(address), 4 + random.nextInt(29));
+            trie.put(networks[i], networks[i]);
+        }
+        for (int i = 0; i < 2000; i++) {
+            final byte[] address = new byte[4];
+            random.nextBytes(address);
+            address[0] = (byte) (address[0] & 0x3);
+            final InetAddress lookup = InetAddress.getByAddress(address);
+            int longest = -1;
+            for (final IpSet network : networks) {
+                if (network.apply(lookup) && network.getPrefixLength() > longest) {
+                    longest = network.getPrefixLength();
+                }
+            }
+            final IpSet found = trie.get(lookup);
+            Assertions.assertEquals(longest, found == null ? -1 : found.getPrefixLength(), "lookup of " + lookup);
+        }
+    }
+}
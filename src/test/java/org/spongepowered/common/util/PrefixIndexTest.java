@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+final class PrefixIndexTest {
+
+    @Test
+    void testCompleteIsSortedAndCaseInsensitive() {
+        final PrefixIndex index = new PrefixIndex();
+        index.add("Steve");
+        index.add("alex");
+        index.add("stone");
+        index.add("STICK");
+        Assertions.assertEquals(Collections.singletonList("STICK"), index.complete("sti", 10));
+        Assertions.assertEquals(Arrays.asList("Steve", "STICK", "stone"), index.complete("ST", 10));
+        Assertions.assertEquals(Collections.singletonList("alex"), index.complete("", 1));
+        Assertions.assertEquals(Collections.emptyList(), index.complete("z", 10));
+    }
+
+    @Test
+    void testLimit() {
+        final PrefixIndex index = new PrefixIndex();
+        for (int i = 0; i < 100; i++) {
+            index.add("player" + i);
+        }
+        Assertions.assertEquals(5, index.complete("player", 5).size());
+        Assertions.assertEquals(Collections.emptyList(), index.complete("player", 0));
+    }
+
+    @Test
+    void testRemove() {
+        final PrefixIndex index = new PrefixIndex();
+        index.add("Steve");
+        index.remove("Steve");
+        Assertions.assertEquals(0, index.size());
+        Assertions.assertEquals(Collections.emptyList(), index.complete("s", 10));
+    }
+
+    @Test
+    void testSharedValueStaysUntilRemovedByEveryOwner() {
+        final PrefixIndex index = new PrefixIndex();
+        index.add("Steve");
+        index.add("steve");
+        Assertions.assertEquals(1, index.size());
+        index.remove("Steve");
+        Assertions.assertEquals(Collections.singletonList("steve"), index.complete("st", 10));
+        index.remove("steve");
+        Assertions.assertEquals(Collections.emptyList(), index.complete("st", 10));
+        index.remove("steve");
+        Assertions.assertEquals(0, index.size());
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class EntityTrackingQueueTest {
+
+    @Test
+    void testSpreadsEntitiesOverTicks() {
+        final EntityTrackingQueue<Integer> queue = new EntityTrackingQueue<>();
+        final List<Integer> tracked = new ArrayList<>();
+        queue.startTick(2);
+        for (int i = 0; i < 5; i++) {
+            if (queue.offer(i)) {
+                tracked.add(i);
+            }
+        }
+        Assertions.assertEquals(3, queue.size());
+
+        queue.startTick(2);
+        queue.drain(e -> true, tracked::add);
+        Assertions.assertEquals(1, queue.size());
+        queue.startTick(2);
+        queue.drain(e -> true, tracked::add);
+        Assertions.assertEquals(0, queue.size());
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(i);
+        }
+        Assertions.assertEquals(expected, tracked);
+    }
+
+    @Test
+    void testNewEntitiesWaitBehindQueue() {
+        final EntityTrackingQueue<Integer> queue = new EntityTrackingQueue<>();
+        queue.startTick(1);
+        Assertions.assertTrue(queue.offer(0));
+        Assertions.assertFalse(queue.offer(1));
+
+        queue.startTick(1);
+        Assertions.assertFalse(queue.offer(2));
+        final List<Integer> tracked = new ArrayList<>();
+        queue.drain(e -> true, tracked::add);
+        Assertions.assertEquals(1, tracked.size());
+        Assertions.assertEquals(1, (int) tracked.get(0));
+    }
+
+    @Test
+    void testRemovedAndInvalidEntitiesDoNotUseBudget() {
+        final EntityTrackingQueue<Integer> queue = new EntityTrackingQueue<>();
+        queue.startTick(1);
+        queue.offer(0);
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+        Assertions.assertTrue(queue.remove(1));
+        Assertions.assertFalse(queue.remove(0));
+
+        queue.startTick(1);
+        final List<Integer> tracked = new ArrayList<>();
+        queue.drain(e -> e != 2, tracked::add);
+        Assertions.assertEquals(1, tracked.size());
+        Assertions.assertEquals(3, (int) tracked.get(0));
+        Assertions.assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testNoBudgetTracksEverything() {
+        final EntityTrackingQueue<Integer> queue = new EntityTrackingQueue<>();
+        queue.startTick(0);
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertTrue(queue.offer(i));
+        }
+        Assertions.assertEquals(0, queue.size());
+    }
+}
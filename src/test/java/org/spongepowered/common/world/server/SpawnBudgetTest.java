@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class SpawnBudgetTest {
+
+    private long now;
+
+    @Test
+    void testSkipsCyclesOnceBudgetIsSpent() {
+        final SpawnBudget budget = new SpawnBudget(() -> this.now);
+        budget.startTick(2, 20, 45);
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertTrue(budget.tryStart());
+            budget.recordSpawn();
+            this.now += 1_000_000L;
+            budget.finish();
+        }
+        Assertions.assertFalse(budget.tryStart());
+        Assertions.assertFalse(budget.tryStart());
+
+        budget.startTick(2, 20, 45);
+        Assertions.assertTrue(budget.tryStart());
+        budget.finish();
+
+        Assertions.assertEquals(3, budget.getAttempts());
+        Assertions.assertEquals(2, budget.getSuccesses());
+        Assertions.assertEquals(2, budget.getSkippedCycles());
+        Assertions.assertEquals(1, budget.getSkippedTicks());
+    }
+
+    @Test
+    void testThrottlesWhileBehindAndRecovers() {
+        final SpawnBudget budget = new SpawnBudget(() -> this.now);
+        budget.startTick(2, 80, 45);
+        Assertions.assertEquals(0.75D, budget.getScale(), 1.0E-9D);
+        for (int i = 0; i < 100; i++) {
+            budget.startTick(2, 80, 45);
+        }
+        Assertions.assertEquals(0.1D, budget.getScale(), 1.0E-9D);
+
+        // 0.1ms of the 0.2ms left at the lowest scale
+        Assertions.assertTrue(budget.tryStart());
+        this.now += 100_000L;
+        budget.finish();
+        Assertions.assertTrue(budget.tryStart());
+        this.now += 100_000L;
+        budget.finish();
+        Assertions.assertFalse(budget.tryStart());
+
+        for (int i = 0; i < 200; i++) {
+            budget.startTick(2, 30, 45);
+        }
+        Assertions.assertEquals(1.0D, budget.getScale(), 1.0E-9D);
+    }
+
+    @Test
+    void testNoLimit() {
+        final SpawnBudget budget = new SpawnBudget(() -> this.now);
+        budget.startTick(0, 20, 45);
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertTrue(budget.tryStart());
+            this.now += 1_000_000L;
+            budget.finish();
+        }
+        Assertions.assertEquals(0, budget.getSkippedCycles());
+    }
+}
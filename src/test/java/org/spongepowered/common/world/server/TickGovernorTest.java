@@ -0,0 +1,148 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+final class TickGovernorTest {
+
+    private static void tick(final TickGovernor<String> governor, final double averageTickMillis) {
+        governor.recordWorldTick("overworld", 30_000_000L);
+        governor.recordWorldTick("nether", 5_000_000L);
+        governor.tick(averageTickMillis, 50, 40, 1, 2);
+    }
+
+    @Test
+    void testThrottlesMostExpensiveWorldFirst() {
+        final TickGovernor<String> governor = new TickGovernor<>();
+        TickGovernorTest.tick(governor, 60);
+        Assertions.assertTrue(governor.isBehind());
+        Assertions.assertEquals(1, governor.getLevel("overworld"));
+        Assertions.assertEquals(0, governor.getLevel("nether"));
+
+        TickGovernorTest.tick(governor, 60);
+        TickGovernorTest.tick(governor, 60);
+        Assertions.assertEquals(2, governor.getLevel("overworld"));
+        Assertions.assertEquals(1, governor.getLevel("nether"));
+
+        // Every world is at the max level
+        TickGovernorTest.tick(governor, 60);
+        TickGovernorTest.tick(governor, 60);
+        Assertions.assertEquals(2, governor.getLevel("overworld"));
+        Assertions.assertEquals(2, governor.getLevel("nether"));
+        Assertions.assertEquals(4, governor.getRecentAdjustments().size());
+    }
+
+    @Test
+    void testRestoresCheapestWorldFirst() {
+        final TickGovernor<String> governor = new TickGovernor<>();
+        TickGovernorTest.tick(governor, 60);
+        TickGovernorTest.tick(governor, 60);
+        TickGovernorTest.tick(governor, 60);
+        Assertions.assertEquals(2, governor.getLevel("overworld"));
+        Assertions.assertEquals(1, governor.getLevel("nether"));
+
+        // Between recovery and target, nothing changes
+        TickGovernorTest.tick(governor, 45);
+        Assertions.assertFalse(governor.isBehind());
+        Assertions.assertEquals(2, governor.getLevel("overworld"));
+        Assertions.assertEquals(1, governor.getLevel("nether"));
+
+        TickGovernorTest.tick(governor, 30);
+        Assertions.assertEquals(2, governor.getLevel("overworld"));
+        Assertions.assertEquals(0, governor.getLevel("nether"));
+        TickGovernorTest.tick(governor, 30);
+        Assertions.assertEquals(1, governor.getLevel("overworld"));
+
+        final TickGovernor.Adjustment<String> last = governor.getRecentAdjustments().get(4);
+        Assertions.assertEquals("overworld", last.getWorld());
+        Assertions.assertEquals(2, last.getFromLevel());
+        Assertions.assertEquals(1, last.getToLevel());
+    }
+
+    @Test
+    void testResetRestoresEveryWorld() {
+        final TickGovernor<String> governor = new TickGovernor<>();
+        TickGovernorTest.tick(governor, 60);
+        TickGovernorTest.tick(governor, 60);
+        TickGovernorTest.tick(governor, 60);
+        Assertions.assertTrue(governor.isThrottling());
+        governor.reset(60);
+        Assertions.assertFalse(governor.isThrottling());
+        Assertions.assertFalse(governor.isBehind());
+        Assertions.assertEquals(0, governor.getLevel("overworld"));
+        Assertions.assertEquals(0, governor.getLevel("nether"));
+        Assertions.assertEquals(5, governor.getRecentAdjustments().size());
+    }
+
+    @Test
+    void testIntervals() {
+        Assertions.assertEquals(1, TickGovernor.getInterval(0));
+        Assertions.assertEquals(2, TickGovernor.getInterval(1));
+        Assertions.assertEquals(8, TickGovernor.getInterval(3));
+    }
+
+    @Test
+    void testThrottledBeaconStillAppliesEffects() {
+        // Beacons apply their effects on game times that are a multiple of 80
+        for (final int phase : new int[] {0, 1, 7, -13, 1_234_567, Integer.MIN_VALUE}) {
+            for (int level = 1; level <= 5; level++) {
+                int applied = 0;
+                int ticked = 0;
+                for (long gameTime = 1; gameTime <= 800; gameTime++) {
+                    if (TickGovernor.shouldRun(gameTime, phase, level)) {
+                        ticked++;
+                        if (gameTime % 80 == 0) {
+                            applied++;
+                        }
+                    }
+                }
+                Assertions.assertEquals(10, applied, "phase " + phase + ", level " + level);
+                Assertions.assertTrue(ticked <= 800 / 2 + 800 / 40, "phase " + phase + ", level " + level);
+            }
+        }
+    }
+
+    @Test
+    void testUnthrottledWorkAlwaysRuns() {
+        for (long gameTime = 0; gameTime < 100; gameTime++) {
+            Assertions.assertTrue(TickGovernor.shouldRun(gameTime, 3, 0));
+        }
+    }
+
+    @Test
+    void testRemovedWorldIsNoLongerThrottled() {
+        final TickGovernor<String> governor = new TickGovernor<>();
+        TickGovernorTest.tick(governor, 60);
+        Assertions.assertEquals(1, governor.getLevel("overworld"));
+        governor.removeWorld("overworld");
+        Assertions.assertEquals(0, governor.getLevel("overworld"));
+        Assertions.assertFalse(governor.isThrottling());
+        Assertions.assertEquals(Collections.singletonMap("nether", 0), governor.getLevels());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class WriteBehindQueueTest {
+
+    @Test
+    void testCoalescesWritesForSameKey() {
+        final Deque<Runnable> tasks = new ArrayDeque<>();
+        final WriteBehindQueue queue = new WriteBehindQueue(tasks::add);
+        final List<String> written = new ArrayList<>();
+        queue.submit("a", () -> written.add("a1"));
+        queue.submit("b", () -> written.add("b1"));
+        queue.submit("a", () -> written.add("a2"));
+        Assertions.assertEquals(2, queue.size());
+        // A single drain is queued for all of them
+        Assertions.assertEquals(1, tasks.size());
+
+        tasks.poll().run();
+        final List<String> expected = new ArrayList<>();
+        expected.add("b1");
+        expected.add("a2");
+        Assertions.assertEquals(expected, written);
+        Assertions.assertEquals(0, queue.size());
+
+        queue.submit("a", () -> written.add("a3"));
+        Assertions.assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void testFailedWriteDoesNotStallQueue() {
+        final Deque<Runnable> tasks = new ArrayDeque<>();
+        final WriteBehindQueue queue = new WriteBehindQueue(tasks::add);
+        final List<String> written = new ArrayList<>();
+        queue.submit("a", () -> {
+            throw new IllegalStateException("disk full");
+        });
+        queue.submit("b", () -> written.add("b"));
+        tasks.poll().run();
+        Assertions.assertEquals(1, written.size());
+        queue.flush();
+    }
+
+    @Test
+    void testFlushWaitsForWrites() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final WriteBehindQueue queue = new WriteBehindQueue(executor);
+            final List<Integer> written = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final int value = i;
+                queue.submit(i, () -> {
+                    Thread.sleep(1);
+                    synchronized (written) {
+                        written.add(value);
+                    }
+                });
+            }
+            queue.flush();
+            synchronized (written) {
+                Assertions.assertEquals(100, written.size());
+            }
+            Assertions.assertEquals(0, queue.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDiscardDropsPendingWrite() {
+        final Deque<Runnable> tasks = new ArrayDeque<>();
+        final WriteBehindQueue queue = new WriteBehindQueue(tasks::add);
+        final List<String> written = new ArrayList<>();
+        queue.submit("a", () -> written.add("a"));
+        queue.submit("b", () -> written.add("b"));
+        queue.discard("a");
+        Assertions.assertEquals(1, queue.size());
+        tasks.poll().run();
+        Assertions.assertEquals(Collections.singletonList("b"), written);
+    }
+
+    @Test
+    void testDiscardWaitsForStartedWrite() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final WriteBehindQueue queue = new WriteBehindQueue(executor);
+            final CountDownLatch started = new CountDownLatch(1);
+            final AtomicBoolean finished = new AtomicBoolean();
+            queue.submit("a", () -> {
+                started.countDown();
+                Thread.sleep(50);
+                finished.set(true);
+            });
+            started.await();
+            queue.discard("a");
+            Assertions.assertTrue(finished.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -107,6 +107,7 @@
 import org.spongepowered.common.util.FutureUtil;
 import org.spongepowered.common.world.server.SpongeWorldManager;
 import org.spongepowered.common.world.server.SpongeWorldTemplate;
+import org.spongepowered.common.world.server.TickGovernor;
 
 import java.io.BufferedWriter;
 import java.io.File;
@@ -820,6 +821,7 @@ public void unloadWorld0(final ServerLevel world) throws IOException {
         }
 
         this.worlds.remove(registryKey);
+        TickGovernor.INSTANCE.removeWorld(registryKey);
 
         SpongeCommon.postEvent(SpongeEventFactory.createUnloadWorldEvent(PhaseTracker.getCauseStackManager().getCurrentCause(), (org.spongepowered.api.world.server.ServerWorld) world));
     }